@@ -0,0 +1,126 @@
+package com.classifiedsplatform.api.cache;
+
+import com.classifiedsplatform.application.port.out.ListingCache;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serialized ListingDetailResponse bodies (UTF-8 JSON) keyed by (id, version), so a hit skips
+ * both DTO mapping and Jackson. Bounded by the total size of the bodies, least recently used first.
+ * Only the latest version of a listing is kept.
+ */
+@Component
+public class ListingResponseCache implements ListingCache {
+
+    private static final String METRIC_PREFIX = "listing.response.cache";
+
+    private final Map<UUID, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final boolean enabled;
+    private final long maxBytes;
+    private long currentBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ListingResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${listing-response-cache.enabled:true}") boolean enabled,
+            @Value("${listing-response-cache.max-bytes:8388608}") long maxBytes
+    ) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, ListingResponseCache::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bytes", this, ListingResponseCache::bytes).register(meterRegistry);
+    }
+
+    /**
+     * Body serialized at exactly this version; an entry for another version is left for put to replace
+     */
+    public Optional<byte[]> get(UUID id, long version) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            CachedResponse cached = entries.get(id);
+            if (cached != null && cached.version() == version) {
+                hits.increment();
+                return Optional.of(cached.body());
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * The body must not be modified afterwards - it is shared by every hit
+     */
+    public void put(UUID id, long version, byte[] body) {
+        if (!enabled || body.length > maxBytes) {
+            return;
+        }
+
+        synchronized (this) {
+            CachedResponse previous = entries.get(id);
+            // A slower request must not replace a newer body
+            if (previous != null && previous.version() > version) {
+                return;
+            }
+            entries.put(id, new CachedResponse(version, body));
+            if (previous != null) {
+                currentBytes -= previous.body().length;
+            }
+            currentBytes += body.length;
+            evictOverBudget();
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(UUID id) {
+        CachedResponse removed = entries.remove(id);
+        if (removed != null) {
+            currentBytes -= removed.body().length;
+        }
+    }
+
+    // Frees the old body early; lookups by version never serve it anyway
+    @TransactionalEventListener
+    public void onListingChanged(ListingChangedEvent event) {
+        invalidate(event.getListingId());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return currentBytes;
+    }
+
+    private void evictOverBudget() {
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= iterator.next().body().length;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private record CachedResponse(long version, byte[] body) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.classifiedsplatform.api.controller;
+
+import com.classifiedsplatform.api.dto.request.AuditLogExportRequest;
+import com.classifiedsplatform.api.dto.request.AuditLogFilterRequest;
+import com.classifiedsplatform.api.dto.response.AuditLogResponse;
+import com.classifiedsplatform.api.dto.response.CursorPageResponse;
+import com.classifiedsplatform.api.mapper.AuditLogDtoMapper;
+import com.classifiedsplatform.application.port.in.CursorPage;
+import com.classifiedsplatform.application.port.in.ExportAuditLogQuery;
+import com.classifiedsplatform.application.port.in.GetAuditLogQuery;
+import com.classifiedsplatform.application.usecase.GetAuditLogUseCase;
+import com.classifiedsplatform.domain.model.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/admin/audit-log")
+public class AuditLogController {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogController.class);
+
+    private final GetAuditLogUseCase getAuditLogUseCase;
+    private final AuditLogDtoMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    public AuditLogController(GetAuditLogUseCase getAuditLogUseCase,
+                              AuditLogDtoMapper mapper,
+                              ObjectMapper objectMapper) {
+        this.getAuditLogUseCase = getAuditLogUseCase;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<AuditLogResponse>> getAuditLog(
+            @Valid @ModelAttribute AuditLogFilterRequest request
+    ) {
+        log.debug("Getting audit log page: {}", request);
+
+        GetAuditLogQuery query = mapper.toQuery(request);
+        CursorPage<AuditLog> page = getAuditLogUseCase.executeWithCursor(query);
+        CursorPageResponse<AuditLogResponse> response = mapper.toCursorPageResponse(page);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * One JSON object per line, written as the entries are read
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAuditLog(
+            @Valid @ModelAttribute AuditLogExportRequest request
+    ) {
+        log.debug("Exporting audit log: {}", request);
+
+        // Validated before the response is committed, so a bad request still gets a 400
+        ExportAuditLogQuery query = mapper.toQuery(request);
+        StreamingResponseBody body = out -> getAuditLogUseCase.export(query, auditLog -> writeLine(out, auditLog));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, AuditLog auditLog) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(mapper.toResponse(auditLog)));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write audit log export", e);
+        }
+    }
+}
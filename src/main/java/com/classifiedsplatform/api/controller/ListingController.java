@@ -1,24 +1,45 @@
 package com.classifiedsplatform.api.controller;
 
+import com.classifiedsplatform.api.cache.ListingResponseCache;
+import com.classifiedsplatform.api.dto.request.BulkCreateListingsRequest;
+import com.classifiedsplatform.api.dto.request.BulkPublishRequest;
 import com.classifiedsplatform.api.dto.request.CreateListingRequest;
 import com.classifiedsplatform.api.dto.request.ListingFilterRequest;
+import com.classifiedsplatform.api.dto.response.BulkCreateListingsResponse;
+import com.classifiedsplatform.api.dto.response.BulkPublishResponse;
+import com.classifiedsplatform.api.dto.response.CursorPageResponse;
+import com.classifiedsplatform.api.dto.response.ListingBatchResponse;
 import com.classifiedsplatform.api.dto.response.ListingDetailResponse;
 import com.classifiedsplatform.api.dto.response.ListingResponse;
 import com.classifiedsplatform.api.dto.response.PageResponse;
 import com.classifiedsplatform.api.mapper.ListingDtoMapper;
+import com.classifiedsplatform.application.port.in.BulkCreateListingsCommand;
+import com.classifiedsplatform.application.port.in.BulkCreateResult;
+import com.classifiedsplatform.application.port.in.BulkPublishListingsCommand;
+import com.classifiedsplatform.application.port.in.BulkPublishResult;
 import com.classifiedsplatform.application.port.in.CreateListingCommand;
+import com.classifiedsplatform.application.port.in.CursorPage;
 import com.classifiedsplatform.application.port.in.GetListingsQuery;
+import com.classifiedsplatform.application.port.in.ListingBatch;
 import com.classifiedsplatform.application.port.in.PublishListingCommand;
+import com.classifiedsplatform.application.port.out.ListingFacets;
 import com.classifiedsplatform.application.usecase.*;
 import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.ListingSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -28,23 +49,38 @@ public class ListingController {
     private static final Logger log = LoggerFactory.getLogger(ListingController.class);
 
     private final CreateListingUseCase createListingUseCase;
+    private final BulkCreateListingsUseCase bulkCreateListingsUseCase;
     private final PublishListingUseCase publishListingUseCase;
+    private final BulkPublishListingsUseCase bulkPublishListingsUseCase;
     private final GetListingsUseCase getListingsUseCase;
     private final GetListingDetailsUseCase getListingDetailsUseCase;
+    private final GetListingsBatchUseCase getListingsBatchUseCase;
     private final ListingDtoMapper mapper;
+    private final ListingResponseCache responseCache;
+    private final ObjectMapper objectMapper;
 
     public ListingController(
             CreateListingUseCase createListingUseCase,
+            BulkCreateListingsUseCase bulkCreateListingsUseCase,
             PublishListingUseCase publishListingUseCase,
+            BulkPublishListingsUseCase bulkPublishListingsUseCase,
             GetListingsUseCase getListingsUseCase,
             GetListingDetailsUseCase getListingDetailsUseCase,
-            ListingDtoMapper mapper
+            GetListingsBatchUseCase getListingsBatchUseCase,
+            ListingDtoMapper mapper,
+            ListingResponseCache responseCache,
+            ObjectMapper objectMapper
     ) {
         this.createListingUseCase = createListingUseCase;
+        this.bulkCreateListingsUseCase = bulkCreateListingsUseCase;
         this.publishListingUseCase = publishListingUseCase;
+        this.bulkPublishListingsUseCase = bulkPublishListingsUseCase;
         this.getListingsUseCase = getListingsUseCase;
         this.getListingDetailsUseCase = getListingDetailsUseCase;
+        this.getListingsBatchUseCase = getListingsBatchUseCase;
         this.mapper = mapper;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -58,6 +94,19 @@ public class ListingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateListingsResponse> bulkCreateListings(
+            @Valid @RequestBody BulkCreateListingsRequest request
+    ) {
+        log.debug("Bulk creating {} listings", request.listings().size());
+
+        BulkCreateListingsCommand command = mapper.toCommand(request);
+        BulkCreateResult result = bulkCreateListingsUseCase.execute(command);
+        BulkCreateListingsResponse response = mapper.toBulkCreateResponse(result);
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{id}/publish")
     public ResponseEntity<ListingResponse> publishListing(
             @PathVariable UUID id,
@@ -72,37 +121,98 @@ public class ListingController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/publish")
+    public ResponseEntity<BulkPublishResponse> bulkPublishListings(
+            @Valid @RequestBody BulkPublishRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        log.debug("Bulk publishing {} listings, idempotencyKey: {}", request.ids().size(), idempotencyKey);
+
+        BulkPublishListingsCommand command = new BulkPublishListingsCommand(request.ids(), idempotencyKey);
+        BulkPublishResult result = bulkPublishListingsUseCase.execute(command);
+        BulkPublishResponse response = mapper.toBulkPublishResponse(result);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     public ResponseEntity<PageResponse<ListingResponse>> getListings(
             @Valid @ModelAttribute ListingFilterRequest request
     ) {
         log.debug("Getting listings with filters: {}", request);
 
-        GetListingsQuery query = new GetListingsQuery(
-                request.query(),
-                request.category(),
-                request.status(),
-                request.minPrice(),
-                request.maxPrice(),
-                request.page(),
-                request.size(),
-                request.sortBy(),
-                request.sortDirection()
-        );
-
-        Page<Listing> page = getListingsUseCase.execute(query);
-        PageResponse<ListingResponse> response = mapper.toPageResponse(page);
+        GetListingsQuery query = mapper.toQuery(request);
+        Slice<ListingSummary> page = getListingsUseCase.execute(query);
+        ListingFacets facets = request.facets() ? getListingsUseCase.countFacets(query) : null;
+        PageResponse<ListingResponse> response = mapper.toPageResponse(page, facets);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = "pagination=cursor")
+    public ResponseEntity<CursorPageResponse<ListingResponse>> getListingsByCursor(
+            @Valid @ModelAttribute ListingFilterRequest request
+    ) {
+        log.debug("Getting listings by cursor with filters: {}", request);
+
+        GetListingsQuery query = mapper.toQuery(request);
+        CursorPage<ListingSummary> page = getListingsUseCase.executeWithCursor(query);
+        CursorPageResponse<ListingResponse> response = mapper.toCursorPageResponse(page);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<ListingBatchResponse> getListingsBatch(@RequestParam List<UUID> ids) {
+        log.debug("Getting listing details for {} ids", ids.size());
+
+        ListingBatch batch = getListingsBatchUseCase.execute(ids);
+        ListingBatchResponse response = mapper.toBatchResponse(batch);
 
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ListingDetailResponse> getListingDetails(@PathVariable UUID id) {
+    public ResponseEntity<byte[]> getListingDetails(@PathVariable UUID id, WebRequest webRequest) {
         log.debug("Getting listing details: {}", id);
 
-        Listing listing = getListingDetailsUseCase.execute(id);
-        ListingDetailResponse response = mapper.toDetailResponse(listing);
+        // Answer If-None-Match from the version alone, before loading photos or serializing
+        long version = getListingDetailsUseCase.currentVersion(id);
+        if (webRequest.checkNotModified(etag(id, version))) {
+            // 304 status and ETag header are already set
+            return null;
+        }
 
-        return ResponseEntity.ok(response);
+        // Hot listings: the JSON body is written as is, without mapping or serialization
+        Optional<byte[]> cached = responseCache.get(id, version);
+        if (cached.isPresent()) {
+            return detailResponse(id, version, cached.get());
+        }
+
+        Listing listing = getListingDetailsUseCase.execute(id, version);
+        byte[] body = serialize(mapper.toDetailResponse(listing));
+        responseCache.put(listing.getId(), listing.getVersion(), body);
+
+        return detailResponse(listing.getId(), listing.getVersion(), body);
+    }
+
+    private static ResponseEntity<byte[]> detailResponse(UUID id, long version, byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag(id, version))
+                .body(body);
+    }
+
+    private byte[] serialize(ListingDetailResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize listing " + response.id(), e);
+        }
+    }
+
+    // Strong validator: any change to the listing bumps its version
+    private static String etag(UUID id, long version) {
+        return "\"" + id + "-" + version + "\"";
     }
 }
\ No newline at end of file
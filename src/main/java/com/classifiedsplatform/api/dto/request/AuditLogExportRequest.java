@@ -0,0 +1,19 @@
+package com.classifiedsplatform.api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public record AuditLogExportRequest(
+        @NotBlank(message = "Event type is required")
+        String eventType,
+
+        // Optional bounds, from inclusive and to exclusive (ISO date-time)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime from,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime to
+) {
+}
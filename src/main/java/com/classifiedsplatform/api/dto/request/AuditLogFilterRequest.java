@@ -0,0 +1,24 @@
+package com.classifiedsplatform.api.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.UUID;
+
+public record AuditLogFilterRequest(
+        // Exactly one of listingId and eventType
+        UUID listingId,
+        String eventType,
+
+        // Opaque position returned as nextCursor
+        String cursor,
+
+        @Min(value = 1, message = "Size must be at least 1")
+        @Max(value = 100, message = "Size cannot exceed 100")
+        Integer size
+) {
+    public AuditLogFilterRequest {
+        // Default values
+        if (size == null) size = 50;
+    }
+}
@@ -0,0 +1,14 @@
+package com.classifiedsplatform.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Items are deliberately not cascaded with @Valid: one invalid item must not reject the whole batch
+ */
+public record BulkCreateListingsRequest(
+        @NotEmpty(message = "At least one listing is required")
+        List<CreateListingRequest> listings
+) {
+}
@@ -0,0 +1,12 @@
+package com.classifiedsplatform.api.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkPublishRequest(
+        @NotEmpty(message = "At least one listing id is required")
+        List<UUID> ids
+) {
+}
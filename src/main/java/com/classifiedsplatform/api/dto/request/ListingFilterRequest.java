@@ -1,6 +1,8 @@
 package com.classifiedsplatform.api.dto.request;
 
+import com.classifiedsplatform.application.port.in.TotalCountMode;
 import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
 import com.classifiedsplatform.domain.model.vo.ListingStatus;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
@@ -12,6 +14,7 @@ public record ListingFilterRequest(
         String query,
         Category category,
         ListingStatus status,
+        Currency currency,
 
         @DecimalMin(value = "0.0", message = "Min price cannot be negative")
         BigDecimal minPrice,
@@ -27,7 +30,16 @@ public record ListingFilterRequest(
         Integer size,
 
         String sortBy,
-        String sortDirection
+        String sortDirection,
+
+        // Opaque position returned as nextCursor, used with pagination=cursor
+        String cursor,
+
+        // EXACT (default), NONE or APPROXIMATE
+        TotalCountMode totals,
+
+        // Adds counts per category, status, currency and price bucket to the page
+        Boolean facets
 ) {
     public ListingFilterRequest {
         // Default values
@@ -35,5 +47,6 @@ public record ListingFilterRequest(
         if (size == null) size = 20;
         if (sortBy == null) sortBy = "createdAt";
         if (sortDirection == null) sortDirection = "desc";
+        if (facets == null) facets = false;
     }
 }
\ No newline at end of file
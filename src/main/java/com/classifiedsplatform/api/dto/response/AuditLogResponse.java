@@ -0,0 +1,16 @@
+package com.classifiedsplatform.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AuditLogResponse(
+        UUID id,
+        String eventType,
+        UUID listingId,
+        // Stored JSON, embedded as is
+        @JsonRawValue String payload,
+        LocalDateTime createdAt
+) {
+}
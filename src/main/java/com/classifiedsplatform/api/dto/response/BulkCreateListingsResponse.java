@@ -0,0 +1,21 @@
+package com.classifiedsplatform.api.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkCreateListingsResponse(
+        List<Item> results,
+        long created,
+        long failed
+) {
+
+    /**
+     * index refers to the request item; exactly one of id and error is set
+     */
+    public record Item(
+            int index,
+            UUID id,
+            String error
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.classifiedsplatform.api.dto.response;
+
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkPublishResponse(
+        List<Item> results,
+        long published,
+        long failed
+) {
+
+    /**
+     * outcome is PUBLISHED, NOT_FOUND or INVALID_STATE; status is null for unknown ids
+     */
+    public record Item(
+            UUID id,
+            String outcome,
+            ListingStatus status
+    ) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.classifiedsplatform.api.dto.response;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
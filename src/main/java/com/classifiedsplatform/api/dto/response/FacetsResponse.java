@@ -0,0 +1,16 @@
+package com.classifiedsplatform.api.dto.response;
+
+import com.classifiedsplatform.application.port.out.PriceBucket;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+
+import java.util.Map;
+
+public record FacetsResponse(
+        Map<Category, Long> category,
+        Map<ListingStatus, Long> status,
+        Map<Currency, Long> currency,
+        Map<PriceBucket, Long> price
+) {
+}
@@ -0,0 +1,10 @@
+package com.classifiedsplatform.api.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ListingBatchResponse(
+        List<ListingDetailResponse> listings,
+        List<UUID> missingIds
+) {
+}
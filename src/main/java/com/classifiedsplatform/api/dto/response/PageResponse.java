@@ -1,14 +1,27 @@
 package com.classifiedsplatform.api.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
+
+        // Omitted when the search ran without counting (totals=NONE)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long totalElements,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Integer totalPages,
+
         boolean first,
-        boolean last
+        boolean last,
+        boolean hasNext,
+
+        // Present only when requested with facets=true
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        FacetsResponse facets
 ) {
 }
\ No newline at end of file
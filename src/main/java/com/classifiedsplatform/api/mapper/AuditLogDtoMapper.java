@@ -0,0 +1,57 @@
+package com.classifiedsplatform.api.mapper;
+
+import com.classifiedsplatform.api.dto.request.AuditLogExportRequest;
+import com.classifiedsplatform.api.dto.request.AuditLogFilterRequest;
+import com.classifiedsplatform.api.dto.response.AuditLogResponse;
+import com.classifiedsplatform.api.dto.response.CursorPageResponse;
+import com.classifiedsplatform.application.port.in.CursorPage;
+import com.classifiedsplatform.application.port.in.ExportAuditLogQuery;
+import com.classifiedsplatform.application.port.in.GetAuditLogQuery;
+import com.classifiedsplatform.domain.model.AuditLog;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class AuditLogDtoMapper {
+
+    public GetAuditLogQuery toQuery(AuditLogFilterRequest request) {
+        return new GetAuditLogQuery(
+                request.listingId(),
+                request.eventType(),
+                request.cursor(),
+                request.size()
+        );
+    }
+
+    public ExportAuditLogQuery toQuery(AuditLogExportRequest request) {
+        return new ExportAuditLogQuery(
+                request.eventType(),
+                request.from(),
+                request.to()
+        );
+    }
+
+    public AuditLogResponse toResponse(AuditLog auditLog) {
+        return new AuditLogResponse(
+                auditLog.getId(),
+                auditLog.getEventType(),
+                auditLog.getListingId(),
+                auditLog.getPayloadJson(),
+                auditLog.getCreatedAt()
+        );
+    }
+
+    public CursorPageResponse<AuditLogResponse> toCursorPageResponse(CursorPage<AuditLog> page) {
+        List<AuditLogResponse> content = page.content().stream()
+                .map(this::toResponse)
+                .toList();
+
+        return new CursorPageResponse<>(
+                content,
+                page.size(),
+                page.hasNext(),
+                page.nextCursor()
+        );
+    }
+}
@@ -1,13 +1,29 @@
 package com.classifiedsplatform.api.mapper;
 
+import com.classifiedsplatform.api.dto.request.BulkCreateListingsRequest;
 import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.request.ListingFilterRequest;
+import com.classifiedsplatform.api.dto.response.BulkCreateListingsResponse;
+import com.classifiedsplatform.api.dto.response.BulkPublishResponse;
+import com.classifiedsplatform.api.dto.response.CursorPageResponse;
+import com.classifiedsplatform.api.dto.response.FacetsResponse;
+import com.classifiedsplatform.api.dto.response.ListingBatchResponse;
 import com.classifiedsplatform.api.dto.response.ListingDetailResponse;
 import com.classifiedsplatform.api.dto.response.ListingResponse;
 import com.classifiedsplatform.api.dto.response.PageResponse;
 import com.classifiedsplatform.api.dto.response.PhotoResponse;
+import com.classifiedsplatform.application.port.in.BulkCreateListingsCommand;
+import com.classifiedsplatform.application.port.in.BulkCreateResult;
+import com.classifiedsplatform.application.port.in.BulkPublishResult;
 import com.classifiedsplatform.application.port.in.CreateListingCommand;
+import com.classifiedsplatform.application.port.in.CursorPage;
+import com.classifiedsplatform.application.port.in.GetListingsQuery;
+import com.classifiedsplatform.application.port.in.ListingBatch;
+import com.classifiedsplatform.application.port.out.ListingFacets;
 import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.ListingSummary;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -32,6 +48,38 @@ public class ListingDtoMapper {
         );
     }
 
+    // Not validated here: invalid items are reported per index by the use case
+    public BulkCreateListingsCommand toCommand(BulkCreateListingsRequest request) {
+        List<BulkCreateListingsCommand.Item> items = request.listings().stream()
+                .map(item -> item == null ? null : new BulkCreateListingsCommand.Item(
+                        item.title(),
+                        item.description(),
+                        item.price(),
+                        item.currency(),
+                        item.category()
+                ))
+                .toList();
+
+        return new BulkCreateListingsCommand(items);
+    }
+
+    public GetListingsQuery toQuery(ListingFilterRequest request) {
+        return new GetListingsQuery(
+                request.query(),
+                request.category(),
+                request.status(),
+                request.currency(),
+                request.minPrice(),
+                request.maxPrice(),
+                request.page(),
+                request.size(),
+                request.sortBy(),
+                request.sortDirection(),
+                request.cursor(),
+                request.totals()
+        );
+    }
+
     public ListingResponse toResponse(Listing listing) {
         return new ListingResponse(
                 listing.getId(),
@@ -47,6 +95,21 @@ public class ListingDtoMapper {
         );
     }
 
+    public ListingResponse toResponse(ListingSummary listing) {
+        return new ListingResponse(
+                listing.getId(),
+                listing.getTitle(),
+                listing.getDescription(),
+                listing.getPrice().getAmount(),
+                listing.getPrice().getCurrency(),
+                listing.getCategory(),
+                listing.getStatus(),
+                listing.getPhotoCount(),
+                listing.getCreatedAt(),
+                listing.getUpdatedAt()
+        );
+    }
+
     public ListingDetailResponse toDetailResponse(Listing listing) {
         List<PhotoResponse> photos = listing.getPhotos().stream()
                 .map(photoMapper::toResponse)
@@ -67,19 +130,73 @@ public class ListingDtoMapper {
         );
     }
 
-    public PageResponse<ListingResponse> toPageResponse(Page<Listing> page) {
-        List<ListingResponse> content = page.getContent().stream()
+    public ListingBatchResponse toBatchResponse(ListingBatch batch) {
+        List<ListingDetailResponse> listings = batch.listings().stream()
+                .map(this::toDetailResponse)
+                .toList();
+
+        return new ListingBatchResponse(listings, batch.missingIds());
+    }
+
+    public BulkCreateListingsResponse toBulkCreateResponse(BulkCreateResult result) {
+        List<BulkCreateListingsResponse.Item> items = result.items().stream()
+                .map(item -> new BulkCreateListingsResponse.Item(item.index(), item.listingId(), item.error()))
+                .toList();
+
+        long created = result.createdCount();
+        return new BulkCreateListingsResponse(items, created, items.size() - created);
+    }
+
+    public BulkPublishResponse toBulkPublishResponse(BulkPublishResult result) {
+        List<BulkPublishResponse.Item> items = result.items().stream()
+                .map(item -> new BulkPublishResponse.Item(item.listingId(), item.outcome().name(), item.status()))
+                .toList();
+
+        long published = result.publishedCount();
+        return new BulkPublishResponse(items, published, items.size() - published);
+    }
+
+    public PageResponse<ListingResponse> toPageResponse(Slice<ListingSummary> slice, ListingFacets facets) {
+        List<ListingResponse> content = slice.getContent().stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
 
+        // Totals are reported only when they were counted
+        Long totalElements = slice instanceof Page<ListingSummary> page ? page.getTotalElements() : null;
+        Integer totalPages = slice instanceof Page<ListingSummary> page ? page.getTotalPages() : null;
+
         return new PageResponse<>(
                 content,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages(),
-                page.isFirst(),
-                page.isLast()
+                slice.getNumber(),
+                slice.getSize(),
+                totalElements,
+                totalPages,
+                slice.isFirst(),
+                slice.isLast(),
+                slice.hasNext(),
+                facets != null ? toFacetsResponse(facets) : null
+        );
+    }
+
+    public FacetsResponse toFacetsResponse(ListingFacets facets) {
+        return new FacetsResponse(
+                facets.categories(),
+                facets.statuses(),
+                facets.currencies(),
+                facets.priceBuckets()
+        );
+    }
+
+    public CursorPageResponse<ListingResponse> toCursorPageResponse(CursorPage<ListingSummary> page) {
+        List<ListingResponse> content = page.content().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        return new CursorPageResponse<>(
+                content,
+                page.size(),
+                page.hasNext(),
+                page.nextCursor()
         );
     }
 }
\ No newline at end of file
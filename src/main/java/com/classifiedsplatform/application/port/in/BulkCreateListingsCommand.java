@@ -0,0 +1,33 @@
+package com.classifiedsplatform.application.port.in;
+
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Items are unvalidated input: each one is checked on its own so a bad item does not fail the batch
+ */
+public record BulkCreateListingsCommand(
+        List<Item> items
+) {
+    public BulkCreateListingsCommand {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one listing is required");
+        }
+        // Null items are kept and reported at their index
+        items = Collections.unmodifiableList(new ArrayList<>(items));
+    }
+
+    public record Item(
+            String title,
+            String description,
+            BigDecimal priceAmount,
+            Currency priceCurrency,
+            Category category
+    ) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.classifiedsplatform.application.port.in;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk create for every item, in request order
+ */
+public record BulkCreateResult(
+        List<Item> items
+) {
+
+    /**
+     * listingId when the item was created, otherwise the validation error
+     */
+    public record Item(
+            int index,
+            UUID listingId,
+            String error
+    ) {
+    }
+
+    public long createdCount() {
+        return items.stream().filter(item -> item.listingId() != null).count();
+    }
+}
@@ -0,0 +1,19 @@
+package com.classifiedsplatform.application.port.in;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkPublishListingsCommand(
+        List<UUID> listingIds,
+        String idempotencyKey
+) {
+    public BulkPublishListingsCommand {
+        if (listingIds == null || listingIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one listing id is required");
+        }
+        if (listingIds.contains(null)) {
+            throw new IllegalArgumentException("Listing ID cannot be null");
+        }
+        listingIds = List.copyOf(listingIds);
+    }
+}
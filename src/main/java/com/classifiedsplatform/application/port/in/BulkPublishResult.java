@@ -0,0 +1,34 @@
+package com.classifiedsplatform.application.port.in;
+
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk publish for every requested id, in request order
+ */
+public record BulkPublishResult(
+        List<Item> items
+) {
+
+    public enum Outcome {
+        PUBLISHED,
+        NOT_FOUND,
+        INVALID_STATE
+    }
+
+    /**
+     * status is the listing status after the request, null when the listing does not exist
+     */
+    public record Item(
+            UUID listingId,
+            Outcome outcome,
+            ListingStatus status
+    ) {
+    }
+
+    public long publishedCount() {
+        return items.stream().filter(item -> item.outcome() == Outcome.PUBLISHED).count();
+    }
+}
@@ -0,0 +1,13 @@
+package com.classifiedsplatform.application.port.in;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.classifiedsplatform.application.port.in;
+
+import java.time.LocalDateTime;
+
+/**
+ * All audit entries of an event type with from <= created_at < to; null bounds are open
+ */
+public record ExportAuditLogQuery(
+        String eventType,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+    public ExportAuditLogQuery {
+        if (eventType == null || eventType.isBlank()) {
+            throw new IllegalArgumentException("Event type cannot be null or empty");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("From must be before to");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.classifiedsplatform.application.port.in;
+
+import java.util.UUID;
+
+/**
+ * One page of audit history for a listing or an event type (exactly one of them)
+ */
+public record GetAuditLogQuery(
+        UUID listingId,
+        String eventType,
+        String cursor,
+        int size
+) {
+    public GetAuditLogQuery {
+        if (eventType != null && eventType.isBlank()) {
+            eventType = null;
+        }
+        if ((listingId == null) == (eventType == null)) {
+            throw new IllegalArgumentException("Exactly one of listingId and eventType is required");
+        }
+        if (size <= 0 || size > 100) {
+            throw new IllegalArgumentException("Size must be between 1 and 100");
+        }
+    }
+}
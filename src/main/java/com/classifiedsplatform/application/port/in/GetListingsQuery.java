@@ -1,22 +1,30 @@
 package com.classifiedsplatform.application.port.in;
 
 import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
 import com.classifiedsplatform.domain.model.vo.ListingStatus;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 
 public record GetListingsQuery(
         String query,
         Category category,
         ListingStatus status,
+        Currency currency,
         BigDecimal minPrice,
         BigDecimal maxPrice,
         int page,
         int size,
         String sortBy,
-        String sortDirection
+        String sortDirection,
+        String cursor,
+        TotalCountMode totals
 ) {
     public GetListingsQuery {
+        if (totals == null) {
+            totals = TotalCountMode.EXACT;
+        }
         if (page < 0) {
             throw new IllegalArgumentException("Page cannot be negative");
         }
@@ -33,4 +41,24 @@ public record GetListingsQuery(
             throw new IllegalArgumentException("Min price cannot be greater than max price");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Same query in canonical form: equal for requests that return the same results
+     */
+    public GetListingsQuery normalized() {
+        return new GetListingsQuery(
+                query == null || query.isBlank() ? null : query.trim().toLowerCase(Locale.ROOT),
+                category,
+                status,
+                currency,
+                minPrice != null ? minPrice.stripTrailingZeros() : null,
+                maxPrice != null ? maxPrice.stripTrailingZeros() : null,
+                page,
+                size,
+                sortBy != null ? sortBy : "createdAt",
+                "asc".equalsIgnoreCase(sortDirection) ? "asc" : "desc",
+                cursor == null || cursor.isBlank() ? null : cursor,
+                totals
+        );
+    }
+}
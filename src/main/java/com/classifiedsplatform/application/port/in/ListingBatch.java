@@ -0,0 +1,15 @@
+package com.classifiedsplatform.application.port.in;
+
+import com.classifiedsplatform.domain.model.Listing;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Listings found for a multi-get, in request order, and the requested ids that do not exist
+ */
+public record ListingBatch(
+        List<Listing> listings,
+        List<UUID> missingIds
+) {
+}
@@ -0,0 +1,10 @@
+package com.classifiedsplatform.application.port.in;
+
+public enum TotalCountMode {
+    // COUNT(*) with the same filters on every request
+    EXACT,
+    // No totals, only hasNext
+    NONE,
+    // Totals served from cached per-filter counters refreshed in the background
+    APPROXIMATE
+}
@@ -0,0 +1,50 @@
+package com.classifiedsplatform.application.port.out;
+
+import com.classifiedsplatform.domain.model.AuditLog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the newest-first audit history: (created_at, id) of the last returned entry.
+ * Clients only see the encoded, opaque form.
+ */
+public record AuditLogCursor(
+        LocalDateTime createdAt,
+        UUID lastId
+) {
+    private static final String SEPARATOR = "|";
+
+    public AuditLogCursor {
+        if (createdAt == null || lastId == null) {
+            throw new IllegalArgumentException("Cursor must contain both created at and id");
+        }
+    }
+
+    public static AuditLogCursor after(AuditLog auditLog) {
+        return new AuditLogCursor(auditLog.getCreatedAt(), auditLog.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AuditLogCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new AuditLogCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
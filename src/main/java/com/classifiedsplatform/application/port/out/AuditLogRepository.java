@@ -2,14 +2,57 @@ package com.classifiedsplatform.application.port.out;
 
 import com.classifiedsplatform.domain.model.AuditLog;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+/**
+ * Audit entries are stored in time buckets by created_at; queries read only the buckets they can match
+ */
 public interface AuditLogRepository {
 
     AuditLog save(AuditLog auditLog);
 
+    /**
+     * Inserts all entries in JDBC batches. Throws DataIntegrityViolationException when a row itself is
+     * rejected (constraint or data error), any other exception when the batch could not be written at all
+     */
+    void saveAll(List<AuditLog> auditLogs);
+
     List<AuditLog> findByListingId(UUID listingId);
 
     List<AuditLog> findByEventType(String eventType);
-}
\ No newline at end of file
+
+    /**
+     * Entries with from <= created_at < to, newest first
+     */
+    List<AuditLog> findByEventType(String eventType, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Keyset page, newest first: up to limit entries after the cursor (null = from the newest)
+     */
+    List<AuditLog> findByListingIdAfter(UUID listingId, AuditLogCursor cursor, int limit);
+
+    /**
+     * Same keyset page, by event type
+     */
+    List<AuditLog> findByEventTypeAfter(String eventType, AuditLogCursor cursor, int limit);
+
+    /**
+     * Hands every matching entry to the consumer as it is read, oldest bucket first, so memory use does not
+     * depend on how many there are. Null bounds are open. Returns the number of entries streamed
+     */
+    long streamByEventType(String eventType, LocalDateTime from, LocalDateTime to, Consumer<AuditLog> consumer);
+
+    /**
+     * Creates the bucket entries created at the given time go to, ahead of the first write
+     */
+    void prepareBucket(LocalDateTime createdAt);
+
+    /**
+     * Drops every bucket that ends at or before the cutoff, entries and all;
+     * returns how many were dropped. Newer entries in a bucket that straddles the cutoff keep it alive
+     */
+    int purgeBefore(LocalDateTime cutoff);
+}
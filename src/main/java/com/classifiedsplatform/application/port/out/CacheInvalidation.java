@@ -0,0 +1,13 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.util.UUID;
+
+/**
+ * A committed listing change as seen by other nodes; ids grow but may commit out of order
+ */
+public record CacheInvalidation(
+        long id,
+        UUID listingId,
+        String nodeId
+) {
+}
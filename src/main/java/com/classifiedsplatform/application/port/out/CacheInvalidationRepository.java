@@ -0,0 +1,28 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface CacheInvalidationRepository {
+
+    /**
+     * Joins the caller's transaction, so the row commits together with the change
+     */
+    void append(UUID listingId, String nodeId);
+
+    /**
+     * Highest id written so far, 0 when the table is empty
+     */
+    long findLatestId();
+
+    /**
+     * Up to limit rows with id greater than afterId, in id order
+     */
+    List<CacheInvalidation> findAfter(long afterId, int limit);
+
+    List<CacheInvalidation> findByIds(Collection<Long> ids);
+
+    void deleteCreatedBefore(LocalDateTime before);
+}
@@ -0,0 +1,11 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.util.UUID;
+
+/**
+ * Node-local cache of listing data that other nodes can invalidate through the database
+ */
+public interface ListingCache {
+
+    void invalidate(UUID listingId);
+}
@@ -0,0 +1,101 @@
+package com.classifiedsplatform.application.port.out;
+
+import com.classifiedsplatform.domain.model.ListingSummary;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keyset position in a sorted listing search: the (sortField, id) values of the last returned row.
+ * Clients only see the encoded, opaque form.
+ */
+public record ListingCursor(
+        String sortField,
+        Sort.Direction direction,
+        Object sortValue,
+        UUID lastId
+) {
+    public static final Set<String> SORT_FIELDS = Set.of("createdAt", "updatedAt", "priceAmount", "title");
+
+    private static final String SEPARATOR = "|";
+
+    public ListingCursor {
+        if (sortField == null || !SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Cursor pagination supports sorting only by: " + String.join(", ", SORT_FIELDS));
+        }
+        if (direction == null) {
+            throw new IllegalArgumentException("Sort direction cannot be null");
+        }
+        if ((sortValue == null) != (lastId == null)) {
+            throw new IllegalArgumentException("Cursor must contain both sort value and id");
+        }
+    }
+
+    // Position before the first row
+    public static ListingCursor first(String sortField, Sort.Direction direction) {
+        return new ListingCursor(sortField, direction, null, null);
+    }
+
+    public ListingCursor after(ListingSummary listing) {
+        Object value = switch (sortField) {
+            case "createdAt" -> listing.getCreatedAt();
+            case "updatedAt" -> listing.getUpdatedAt();
+            case "priceAmount" -> listing.getPrice().getAmount();
+            case "title" -> listing.getTitle();
+            default -> throw new IllegalStateException("Unexpected sort field: " + sortField);
+        };
+        return new ListingCursor(sortField, direction, value, listing.getId());
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    public boolean matches(String sortField, Sort.Direction direction) {
+        return this.sortField.equals(sortField) && this.direction == direction;
+    }
+
+    public String encode() {
+        if (isFirst()) {
+            throw new IllegalStateException("Cannot encode a cursor without position");
+        }
+        String raw = sortField + SEPARATOR + direction.name() + SEPARATOR + sortValue + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ListingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+
+            // Title values may contain the separator, so field and direction are read from the start and id from the end
+            int fieldEnd = raw.indexOf(SEPARATOR);
+            int directionEnd = raw.indexOf(SEPARATOR, fieldEnd + 1);
+            int idStart = raw.lastIndexOf(SEPARATOR);
+            if (fieldEnd < 0 || directionEnd < 0 || idStart <= directionEnd) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+
+            String field = raw.substring(0, fieldEnd);
+            Sort.Direction direction = Sort.Direction.valueOf(raw.substring(fieldEnd + 1, directionEnd));
+            String value = raw.substring(directionEnd + 1, idStart);
+            UUID id = UUID.fromString(raw.substring(idStart + 1));
+
+            return new ListingCursor(field, direction, parseValue(field, value), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static Object parseValue(String field, String value) {
+        return switch (field) {
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            case "priceAmount" -> new BigDecimal(value);
+            default -> value;
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.classifiedsplatform.application.port.out;
+
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Listing counts per facet value for one search, values without matches are omitted
+ */
+public record ListingFacets(
+        Map<Category, Long> categories,
+        Map<ListingStatus, Long> statuses,
+        Map<Currency, Long> currencies,
+        Map<PriceBucket, Long> priceBuckets
+) {
+    public static ListingFacets empty() {
+        return new ListingFacets(
+                new EnumMap<>(Category.class),
+                new EnumMap<>(ListingStatus.class),
+                new EnumMap<>(Currency.class),
+                new EnumMap<>(PriceBucket.class)
+        );
+    }
+
+    /**
+     * Adds one grouped row (category, status, currency, bucket) to every facet
+     */
+    public void add(Category category, ListingStatus status, Currency currency, PriceBucket bucket, long count) {
+        categories.merge(category, count, Long::sum);
+        statuses.merge(status, count, Long::sum);
+        currencies.merge(currency, count, Long::sum);
+        priceBuckets.merge(bucket, count, Long::sum);
+    }
+}
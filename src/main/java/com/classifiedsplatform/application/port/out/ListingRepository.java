@@ -1,29 +1,79 @@
 package com.classifiedsplatform.application.port.out;
 
 import com.classifiedsplatform.domain.model.Listing;
-import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.ListingSummary;
 import com.classifiedsplatform.domain.model.vo.ListingStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ListingRepository {
 
     Listing save(Listing listing);
 
+    /**
+     * Inserts new aggregates (no version yet) in JDBC batches; returns them in the same order
+     */
+    List<Listing> saveAll(List<Listing> listings);
+
     Optional<Listing> findById(UUID id);
 
-    Page<Listing> findByFilters(
-            String query,
-            Category category,
-            ListingStatus status,
-            BigDecimal minPrice,
-            BigDecimal maxPrice,
-            Pageable pageable
-    );
+    /**
+     * Moves the listing from expected to target status in one conditional UPDATE (bumping the version)
+     * without loading it; false when it does not exist or is not in the expected status
+     */
+    boolean compareAndSetStatus(UUID id, ListingStatus expected, ListingStatus target, LocalDateTime updatedAt);
+
+    /**
+     * Batched form of compareAndSetStatus: one conditional UPDATE per id, sent to the database as a single
+     * JDBC batch; returns the ids that moved to the target status
+     */
+    Set<UUID> compareAndSetStatuses(Collection<UUID> ids, ListingStatus expected, ListingStatus target,
+                                    LocalDateTime updatedAt);
+
+    Optional<ListingStatus> findStatusById(UUID id);
+
+    /**
+     * Current status of each existing id in one IN query; unknown ids are absent from the map
+     */
+    Map<UUID, ListingStatus> findStatusesByIds(Collection<UUID> ids);
+
+    /**
+     * Current optimistic-lock version only, without loading the aggregate
+     */
+    Optional<Long> findVersionById(UUID id);
+
+    /**
+     * Aggregates with photos for the given ids in two IN queries; unknown ids are skipped, order is unspecified
+     */
+    List<Listing> findAllByIds(Collection<UUID> ids);
+
+    /**
+     * Search methods return the list view: photo counts are loaded for the whole page at once
+     */
+    Page<ListingSummary> findByFilters(ListingSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Page without total count: fetches one extra row to decide hasNext
+     */
+    Slice<ListingSummary> findSliceByFilters(ListingSearchCriteria criteria, Pageable pageable);
+
+    long countByFilters(ListingSearchCriteria criteria);
+
+    ListingFacets countFacets(ListingSearchCriteria criteria);
+
+    /**
+     * Keyset page: up to limit listings positioned after the cursor, without OFFSET or COUNT
+     */
+    List<ListingSummary> findByFiltersAfter(ListingSearchCriteria criteria, ListingCursor cursor, int limit);
 
     void delete(Listing listing);
 
@@ -0,0 +1,68 @@
+package com.classifiedsplatform.application.port.out;
+
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Filters passed to the listing repository.
+ * When candidateIds is set, the repository only narrows those ids by the remaining filters:
+ * the search engine has already answered the text query (withCandidates) and/or some of the
+ * attribute filters (narrowedTo).
+ */
+public record ListingSearchCriteria(
+        String query,
+        Category category,
+        ListingStatus status,
+        Currency currency,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Set<UUID> candidateIds
+) {
+    public static ListingSearchCriteria of(
+            String query,
+            Category category,
+            ListingStatus status,
+            Currency currency,
+            BigDecimal minPrice,
+            BigDecimal maxPrice
+    ) {
+        return new ListingSearchCriteria(query, category, status, currency, minPrice, maxPrice, null);
+    }
+
+    /**
+     * Text query answered by the search engine: the ids replace the query
+     */
+    public ListingSearchCriteria withCandidates(Set<UUID> ids) {
+        return new ListingSearchCriteria(null, category, status, currency, minPrice, maxPrice, narrow(ids));
+    }
+
+    /**
+     * Restricts the result to ids, keeping every filter (and the query) in place
+     */
+    public ListingSearchCriteria narrowedTo(Set<UUID> ids) {
+        return new ListingSearchCriteria(query, category, status, currency, minPrice, maxPrice, narrow(ids));
+    }
+
+    public boolean hasAttributeFilter() {
+        return category != null || status != null || currency != null || minPrice != null || maxPrice != null;
+    }
+
+    private Set<UUID> narrow(Set<UUID> ids) {
+        if (candidateIds == null) {
+            return Set.copyOf(ids);
+        }
+        Set<UUID> intersection = new HashSet<>(candidateIds);
+        intersection.retainAll(ids);
+        return Set.copyOf(intersection);
+    }
+
+    public boolean hasCandidates() {
+        return candidateIds != null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.classifiedsplatform.application.port.out;
+
+import com.classifiedsplatform.domain.model.Listing;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ListingSearchEngine {
+
+    /**
+     * Resolve a full-text query to the ids of matching listings.
+     * Returns empty when the engine cannot answer it and the database has to match the text itself.
+     */
+    Optional<Set<UUID>> findMatchingIds(String query);
+
+    /**
+     * Resolve the category, status, currency and price filters of the criteria to the ids of matching listings.
+     * Returns empty when the engine cannot answer them or the match is too broad to be worth it.
+     */
+    Optional<Set<UUID>> findMatchingIds(ListingSearchCriteria criteria);
+
+    /**
+     * Add or refresh a listing in the index
+     */
+    void index(Listing listing);
+
+    /**
+     * Refresh the given listings from the database, e.g. after another node changed them
+     */
+    void reindex(Collection<UUID> listingIds);
+}
@@ -0,0 +1,16 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed outbox row; ids grow in write order, so events of one listing are in id order
+ */
+public record OutboxEvent(
+        long id,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
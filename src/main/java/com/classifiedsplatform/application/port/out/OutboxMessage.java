@@ -0,0 +1,13 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.util.UUID;
+
+/**
+ * A domain event to be written to the outbox; payload is the serialized event
+ */
+public record OutboxMessage(
+        UUID aggregateId,
+        String eventType,
+        String payload
+) {
+}
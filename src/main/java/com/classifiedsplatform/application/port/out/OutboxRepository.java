@@ -0,0 +1,20 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository {
+
+    /**
+     * Joins the caller's transaction, so the events commit together with the change; inserted in JDBC batches.
+     * Ids increase in the order an aggregate's changes commit, provided the change locks the aggregate first
+     */
+    void appendAll(List<OutboxMessage> messages);
+
+    /**
+     * Up to limit oldest events in id order, locked until the transaction ends so relays on other nodes wait
+     */
+    List<OutboxEvent> lockOldest(int limit);
+
+    void deleteByIds(Collection<Long> ids);
+}
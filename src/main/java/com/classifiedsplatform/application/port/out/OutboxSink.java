@@ -0,0 +1,12 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. Delivery is at-least-once: a batch is redelivered when any sink
+ * fails, so sinks must tolerate duplicates. Events arrive in id order
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxEvent> events);
+}
@@ -0,0 +1,30 @@
+package com.classifiedsplatform.application.port.out;
+
+import java.math.BigDecimal;
+
+/**
+ * Price ranges reported by search facets: lower bound inclusive, upper bound exclusive
+ */
+public enum PriceBucket {
+    UNDER_100(null, new BigDecimal("100")),
+    FROM_100_TO_500(new BigDecimal("100"), new BigDecimal("500")),
+    FROM_500_TO_1000(new BigDecimal("500"), new BigDecimal("1000")),
+    FROM_1000_TO_5000(new BigDecimal("1000"), new BigDecimal("5000")),
+    FROM_5000(new BigDecimal("5000"), null);
+
+    private final BigDecimal lowerBound;
+    private final BigDecimal upperBound;
+
+    PriceBucket(BigDecimal lowerBound, BigDecimal upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public BigDecimal getLowerBound() {
+        return lowerBound;
+    }
+
+    public BigDecimal getUpperBound() {
+        return upperBound;
+    }
+}
@@ -0,0 +1,110 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-filter listing counts that are served from memory and recounted in the background
+ */
+@Service
+public class ApproximateCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApproximateCountService.class);
+
+    private final ListingRepository listingRepository;
+    private final Map<ListingSearchCriteria, CachedCount> counts = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long refreshIntervalMs;
+
+    public ApproximateCountService(
+            ListingRepository listingRepository,
+            @Value("${listing-search.approximate-totals.max-entries:1000}") int maxEntries,
+            @Value("${listing-search.approximate-totals.refresh-interval-ms:30000}") long refreshIntervalMs
+    ) {
+        this.listingRepository = listingRepository;
+        this.maxEntries = maxEntries;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public long count(ListingSearchCriteria criteria) {
+        if (criteria.hasCandidates()) {
+            // Bounded by the candidate set, cheap to count exactly and not worth caching
+            return listingRepository.countByFilters(criteria);
+        }
+
+        ListingSearchCriteria key = normalize(criteria);
+        CachedCount cached = counts.get(key);
+        if (cached != null) {
+            cached.lastAccessedAt = System.currentTimeMillis();
+            return cached.count;
+        }
+
+        // First request for this filter combination pays for one exact count
+        long count = listingRepository.countByFilters(key);
+        if (counts.size() >= maxEntries) {
+            evictLeastRecentlyUsed();
+        }
+        counts.put(key, new CachedCount(count));
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${listing-search.approximate-totals.refresh-interval-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        counts.forEach((criteria, cached) -> {
+            if (now - cached.lastAccessedAt > refreshIntervalMs * 10) {
+                // Nobody asked for this filter recently
+                counts.remove(criteria);
+            } else if (now - cached.refreshedAt >= refreshIntervalMs) {
+                try {
+                    cached.count = listingRepository.countByFilters(criteria);
+                    cached.refreshedAt = System.currentTimeMillis();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh listing count for {}", criteria, e);
+                }
+            }
+        });
+    }
+
+    private void evictLeastRecentlyUsed() {
+        counts.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastAccessedAt))
+                .ifPresent(entry -> counts.remove(entry.getKey()));
+    }
+
+    private ListingSearchCriteria normalize(ListingSearchCriteria criteria) {
+        String query = criteria.query() == null || criteria.query().isBlank()
+                ? null
+                : criteria.query().trim().toLowerCase(Locale.ROOT);
+        return ListingSearchCriteria.of(
+                query,
+                criteria.category(),
+                criteria.status(),
+                criteria.currency(),
+                criteria.minPrice() != null ? criteria.minPrice().stripTrailingZeros() : null,
+                criteria.maxPrice() != null ? criteria.maxPrice().stripTrailingZeros() : null
+        );
+    }
+
+    private static final class CachedCount {
+        private volatile long count;
+        private volatile long refreshedAt;
+        private volatile long lastAccessedAt;
+
+        private CachedCount(long count) {
+            this.count = count;
+            this.refreshedAt = System.currentTimeMillis();
+            this.lastAccessedAt = this.refreshedAt;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps audit-log.retention.months of audit history. Whole time buckets are dropped once they are
+ * entirely past the cutoff, so no row-by-row delete ever runs against the audit tables.
+ * Each run also creates next month's bucket, so writers do not run DDL at month rollover
+ */
+@Service
+@ConditionalOnProperty(name = "audit-log.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogRetention.class);
+
+    private final AuditLogRepository auditLogRepository;
+    private final int retentionMonths;
+    private final Counter dropped;
+
+    public AuditLogRetention(
+            AuditLogRepository auditLogRepository,
+            MeterRegistry meterRegistry,
+            @Value("${audit-log.retention.months:12}") int retentionMonths
+    ) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("audit-log.retention.months must be at least 1");
+        }
+        this.auditLogRepository = auditLogRepository;
+        this.retentionMonths = retentionMonths;
+        this.dropped = Counter.builder("audit.log.retention.dropped").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${audit-log.retention.cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        auditLogRepository.prepareBucket(now.plusMonths(1));
+
+        LocalDateTime cutoff = now.minusMonths(retentionMonths);
+        int count = auditLogRepository.purgeBefore(cutoff);
+        dropped.increment(count);
+        if (count > 0) {
+            log.info("Dropped {} audit log buckets older than {}", count, cutoff);
+        }
+    }
+}
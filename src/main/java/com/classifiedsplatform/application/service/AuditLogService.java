@@ -1,17 +1,21 @@
 package com.classifiedsplatform.application.service;
 
-import com.classifiedsplatform.application.port.out.AuditLogRepository;
 import com.classifiedsplatform.domain.event.ListingPublishedEvent;
 import com.classifiedsplatform.domain.event.PhotoUploadedEvent;
+import com.classifiedsplatform.domain.id.IdGenerator;
 import com.classifiedsplatform.domain.model.AuditLog;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns domain events into audit entries; AuditLogWriter writes them after the surrounding transaction commits
+ */
 @Service
 public class AuditLogService {
 
@@ -19,42 +23,63 @@ public class AuditLogService {
     private static final String EVENT_LISTING_PUBLISHED = "LISTING_PUBLISHED";
     private static final String EVENT_PHOTO_UPLOADED = "PHOTO_UPLOADED";
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final IdGenerator idGenerator;
     private final ObjectMapper objectMapper;
 
-    public AuditLogService(AuditLogRepository auditLogRepository, ObjectMapper objectMapper) {
-        this.auditLogRepository = auditLogRepository;
+    public AuditLogService(AuditLogWriter auditLogWriter, IdGenerator idGenerator, ObjectMapper objectMapper) {
+        this.auditLogWriter = auditLogWriter;
+        this.idGenerator = idGenerator;
         this.objectMapper = objectMapper;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logListingPublished(ListingPublishedEvent event) {
         try {
             String payload = objectMapper.writeValueAsString(event);
             AuditLog auditLog = AuditLog.create(
+                    idGenerator.next(),
                     EVENT_LISTING_PUBLISHED,
                     event.getListingId(),
                     payload
             );
-            auditLogRepository.save(auditLog);
-            log.debug("Audit log created for listing published: {}", event.getListingId());
+            auditLogWriter.write(List.of(auditLog));
+            log.debug("Audit log queued for listing published: {}", event.getListingId());
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize event to JSON", e);
+            throw new RuntimeException("Failed to create audit log", e);
+        }
+    }
+
+    public void logListingsPublished(List<ListingPublishedEvent> events) {
+        try {
+            List<AuditLog> auditLogs = new ArrayList<>(events.size());
+            for (ListingPublishedEvent event : events) {
+                auditLogs.add(AuditLog.create(
+                        idGenerator.next(),
+                        EVENT_LISTING_PUBLISHED,
+                        event.getListingId(),
+                        objectMapper.writeValueAsString(event)
+                ));
+            }
+            auditLogWriter.write(auditLogs);
+            log.debug("Audit logs queued for {} published listings", auditLogs.size());
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize event to JSON", e);
             throw new RuntimeException("Failed to create audit log", e);
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logPhotoUploaded(PhotoUploadedEvent event) {
         try {
             String payload = objectMapper.writeValueAsString(event);
             AuditLog auditLog = AuditLog.create(
+                    idGenerator.next(),
                     EVENT_PHOTO_UPLOADED,
                     event.getListingId(),
                     payload
             );
-            auditLogRepository.save(auditLog);
-            log.debug("Audit log created for photo uploaded: {}", event.getPhotoId());
+            auditLogWriter.write(List.of(auditLog));
+            log.debug("Audit log queued for photo uploaded: {}", event.getPhotoId());
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize event to JSON", e);
             throw new RuntimeException("Failed to create audit log", e);
@@ -0,0 +1,271 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.AuditLogRepository;
+import com.classifiedsplatform.domain.model.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for audit entries. Entries written inside a transaction are collected and handed over
+ * once, after it commits (nothing is written for a rollback). Then, by audit-log.mode:
+ * <ul>
+ *   <li>sync - the caller inserts them in one batched transaction before returning</li>
+ *   <li>async - they go to a bounded ring buffer; a writer thread inserts batches of up to batch-size
+ *       entries, or whatever arrived within flush-interval-ms. A full buffer blocks the producer for up to
+ *       offer-timeout-ms, after which it writes its entries itself instead of dropping them</li>
+ * </ul>
+ * Entries are written after the caller's commit, so a failed write no longer fails the request: it is
+ * logged and counted in audit.log.writer.failures. A batch rejected for a row-level integrity violation is
+ * split in halves and retried, so only the offending rows are lost; any other failure (e.g. the database is
+ * unreachable) loses the whole batch at once, without retrying it row by row.
+ */
+@Service
+public class AuditLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    // Upper bound on an idle wait, so close() does not sit out a long flush interval
+    private static final long IDLE_POLL_MS = 100;
+
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionOperations newTransaction;
+    private final boolean async;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+
+    private final BlockingQueue<AuditLog> buffer;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final Counter written;
+    private final Counter flushes;
+    private final Counter overflows;
+    private final Counter failures;
+
+    @Autowired
+    public AuditLogWriter(
+            AuditLogRepository auditLogRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${audit-log.mode:sync}") String mode,
+            @Value("${audit-log.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${audit-log.batch-size:500}") int batchSize,
+            @Value("${audit-log.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${audit-log.offer-timeout-ms:50}") long offerTimeoutMs
+    ) {
+        this(auditLogRepository, requiresNew(transactionManager), meterRegistry, mode,
+                bufferCapacity, batchSize, flushIntervalMs, offerTimeoutMs);
+    }
+
+    AuditLogWriter(
+            AuditLogRepository auditLogRepository,
+            TransactionOperations newTransaction,
+            MeterRegistry meterRegistry,
+            String mode,
+            int bufferCapacity,
+            int batchSize,
+            long flushIntervalMs,
+            long offerTimeoutMs
+    ) {
+        this.async = switch (mode) {
+            case "sync" -> false;
+            case "async" -> true;
+            default -> throw new IllegalArgumentException("Unknown audit-log.mode: " + mode);
+        };
+        this.auditLogRepository = auditLogRepository;
+        this.newTransaction = newTransaction;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        this.written = Counter.builder("audit.log.writer.entries").register(meterRegistry);
+        this.flushes = Counter.builder("audit.log.writer.flushes").register(meterRegistry);
+        this.overflows = Counter.builder("audit.log.writer.overflows").register(meterRegistry);
+        this.failures = Counter.builder("audit.log.writer.failures").register(meterRegistry);
+        Gauge.builder("audit.log.writer.buffer.size", buffer, BlockingQueue::size).register(meterRegistry);
+
+        if (async) {
+            this.writerThread = new Thread(this::drainLoop, "audit-log-writer");
+            this.writerThread.setDaemon(true);
+            this.writerThread.start();
+        } else {
+            this.writerThread = null;
+        }
+    }
+
+    public void write(List<AuditLog> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(entries);
+            return;
+        }
+
+        // One pending list per transaction, bound like the transaction's own resources
+        @SuppressWarnings("unchecked")
+        List<AuditLog> pending = (List<AuditLog>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new AfterCommit(pending));
+        }
+        pending.addAll(entries);
+    }
+
+    private void deliver(List<AuditLog> entries) {
+        if (!async) {
+            insert(entries);
+            return;
+        }
+
+        int offered = 0;
+        try {
+            while (offered < entries.size()
+                    && buffer.offer(entries.get(offered), offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                offered++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (offered < entries.size()) {
+            // Backpressure: the buffer stayed full, so the producer pays for its own insert
+            List<AuditLog> overflow = List.copyOf(entries.subList(offered, entries.size()));
+            overflows.increment(overflow.size());
+            insert(overflow);
+        }
+    }
+
+    private void insert(List<AuditLog> entries) {
+        try {
+            newTransaction.executeWithoutResult(status -> auditLogRepository.saveAll(entries));
+            written.increment(entries.size());
+            flushes.increment();
+        } catch (DataIntegrityViolationException e) {
+            if (entries.size() == 1) {
+                failures.increment();
+                log.error("Rejected audit log entry {}", entries.get(0).getId(), e);
+                return;
+            }
+            // One bad row (e.g. its listing was deleted meanwhile) fails the whole batch: bisect to drop only it
+            log.warn("Audit log batch of {} entries rejected, retrying in halves", entries.size());
+            int middle = entries.size() / 2;
+            insert(entries.subList(0, middle));
+            insert(entries.subList(middle, entries.size()));
+        } catch (RuntimeException e) {
+            // Not caused by a row: every split would fail the same way
+            failures.increment(entries.size());
+            log.error("Failed to write {} audit log entries", entries.size(), e);
+        }
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditLog first = buffer.poll(Math.min(flushIntervalMs, IDLE_POLL_MS), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Size threshold, or whatever arrived until the time threshold
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AuditLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                insert(List.copyOf(batch));
+                batch.clear();
+            } catch (InterruptedException e) {
+                // Shutdown: whatever is left is flushed by close()
+                if (!batch.isEmpty()) {
+                    insert(List.copyOf(batch));
+                }
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        writerThread.interrupt();
+
+        List<AuditLog> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            insert(remaining);
+        }
+    }
+
+    private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        // Runs after the caller's commit, while its synchronization is still active: must not join it
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private class AfterCommit implements TransactionSynchronization {
+
+        private final List<AuditLog> pending;
+
+        AfterCommit(List<AuditLog> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(AuditLogWriter.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(AuditLogWriter.this, pending);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AuditLogWriter.this);
+            if (status == STATUS_COMMITTED) {
+                deliver(List.copyOf(pending));
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.CacheInvalidation;
+import com.classifiedsplatform.application.port.out.CacheInvalidationRepository;
+import com.classifiedsplatform.application.port.out.ListingCache;
+import com.classifiedsplatform.application.port.out.ListingSearchEngine;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Cross-node invalidation of the local listing caches through the cache_invalidations table.
+ * Every committed change appends a row; each node polls rows above its high-water mark, drops the
+ * listing from its caches and refreshes it in the local search index.
+ * Identity ids are handed out in insert order but may commit out of order, so ids skipped
+ * by the mark are re-checked until they appear or the gap timeout passes (rolled back inserts
+ * never do). A change is seen by other nodes within one poll interval after commit,
+ * or within the gap timeout when a transaction holding a lower id commits later.
+ */
+@Service
+@ConditionalOnProperty(name = "cache-invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class ClusterCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterCacheInvalidator.class);
+
+    // Beyond this many open ids the gap is treated as a sequence jump, not as in-flight transactions
+    private static final int MAX_PENDING_GAPS = 1000;
+
+    private final CacheInvalidationRepository repository;
+    private final List<ListingCache> caches;
+    private final ListingSearchEngine searchEngine;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final long gapTimeoutMs;
+    private final long retentionMs;
+    private final Counter applied;
+
+    // Gap id -> when it was first skipped
+    private final Map<Long, Long> pendingGaps = new TreeMap<>();
+    private long highWaterMark = -1;
+
+    public ClusterCacheInvalidator(
+            CacheInvalidationRepository repository,
+            List<ListingCache> caches,
+            ListingSearchEngine searchEngine,
+            MeterRegistry meterRegistry,
+            @Value("${cache-invalidation.batch-size:500}") int batchSize,
+            @Value("${cache-invalidation.gap-timeout-ms:60000}") long gapTimeoutMs,
+            @Value("${cache-invalidation.retention-ms:3600000}") long retentionMs
+    ) {
+        this.repository = repository;
+        this.caches = caches;
+        this.searchEngine = searchEngine;
+        this.batchSize = batchSize;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retentionMs = retentionMs;
+        this.applied = Counter.builder("listing.cache.invalidations.applied").register(meterRegistry);
+    }
+
+    // Before commit: the row is written in the same transaction as the change it announces
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onListingChanged(ListingChangedEvent event) {
+        repository.append(event.getListingId(), nodeId);
+    }
+
+    // Caches start empty, so older rows are irrelevant to this node
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        highWaterMark = repository.findLatestId();
+        log.debug("Cache invalidation node {} starting after id {}", nodeId, highWaterMark);
+    }
+
+    @Scheduled(fixedDelayString = "${cache-invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (highWaterMark < 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<CacheInvalidation> received = new ArrayList<>();
+
+        if (!pendingGaps.isEmpty()) {
+            for (CacheInvalidation late : repository.findByIds(pendingGaps.keySet())) {
+                pendingGaps.remove(late.id());
+                received.add(late);
+            }
+            pendingGaps.values().removeIf(firstSeen -> now - firstSeen > gapTimeoutMs);
+        }
+
+        List<CacheInvalidation> batch;
+        do {
+            batch = repository.findAfter(highWaterMark, batchSize);
+            for (CacheInvalidation invalidation : batch) {
+                trackGap(highWaterMark + 1, invalidation.id(), now);
+                highWaterMark = invalidation.id();
+                received.add(invalidation);
+            }
+        } while (batch.size() == batchSize);
+
+        Set<UUID> changed = new LinkedHashSet<>();
+        for (CacheInvalidation invalidation : received) {
+            // This node already invalidated after its own commit
+            if (nodeId.equals(invalidation.nodeId())) {
+                continue;
+            }
+            for (ListingCache cache : caches) {
+                cache.invalidate(invalidation.listingId());
+            }
+            changed.add(invalidation.listingId());
+            applied.increment();
+        }
+        // One read for every listing changed elsewhere since the last poll
+        searchEngine.reindex(changed);
+    }
+
+    @Scheduled(fixedDelayString = "${cache-invalidation.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        repository.deleteCreatedBefore(LocalDateTime.now().minus(Duration.ofMillis(retentionMs)));
+    }
+
+    private void trackGap(long fromId, long toId, long now) {
+        if (toId - fromId > MAX_PENDING_GAPS) {
+            log.debug("Skipping cache invalidation ids {}..{} as a sequence jump", fromId, toId - 1);
+            return;
+        }
+        for (long id = fromId; id < toId; id++) {
+            pendingGaps.put(id, now);
+        }
+        // Lowest (oldest) ids go first when too many transactions are in flight
+        Iterator<Long> iterator = pendingGaps.keySet().iterator();
+        while (pendingGaps.size() > MAX_PENDING_GAPS && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.OutboxMessage;
+import com.classifiedsplatform.application.port.out.OutboxRepository;
+import com.classifiedsplatform.domain.event.ListingPublishedEvent;
+import com.classifiedsplatform.domain.event.PhotoUploadedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes domain events to the outbox inside the transaction that makes the change,
+ * so an event exists if and only if the change committed. OutboxRelay delivers them
+ */
+@Service
+public class EventOutbox {
+
+    private static final String EVENT_LISTING_PUBLISHED = "LISTING_PUBLISHED";
+    private static final String EVENT_PHOTO_UPLOADED = "PHOTO_UPLOADED";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public EventOutbox(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void listingsPublished(List<ListingPublishedEvent> events) {
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        for (ListingPublishedEvent event : events) {
+            messages.add(toMessage(event.getListingId(), EVENT_LISTING_PUBLISHED, event));
+        }
+        outboxRepository.appendAll(messages);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void photosUploaded(List<PhotoUploadedEvent> events) {
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        for (PhotoUploadedEvent event : events) {
+            messages.add(toMessage(event.getListingId(), EVENT_PHOTO_UPLOADED, event));
+        }
+        outboxRepository.appendAll(messages);
+    }
+
+    private OutboxMessage toMessage(UUID listingId, String eventType, Object event) {
+        try {
+            return new OutboxMessage(listingId, eventType, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + eventType + " event", e);
+        }
+    }
+}
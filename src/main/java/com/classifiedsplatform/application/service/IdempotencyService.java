@@ -1,6 +1,7 @@
 package com.classifiedsplatform.application.service;
 
 import com.classifiedsplatform.application.port.out.IdempotencyRepository;
+import com.classifiedsplatform.domain.id.IdGenerator;
 import com.classifiedsplatform.domain.model.IdempotencyRecord;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,10 +21,13 @@ public class IdempotencyService {
     private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
 
     private final IdempotencyRepository idempotencyRepository;
+    private final IdGenerator idGenerator;
     private final ObjectMapper objectMapper;
 
-    public IdempotencyService(IdempotencyRepository idempotencyRepository, ObjectMapper objectMapper) {
+    public IdempotencyService(IdempotencyRepository idempotencyRepository, IdGenerator idGenerator,
+                              ObjectMapper objectMapper) {
         this.idempotencyRepository = idempotencyRepository;
+        this.idGenerator = idGenerator;
         this.objectMapper = objectMapper;
     }
 
@@ -50,6 +54,7 @@ public class IdempotencyService {
             String resultJson = objectMapper.writeValueAsString(result);
 
             IdempotencyRecord record = IdempotencyRecord.create(
+                    idGenerator.next(),
                     idempotencyKey,
                     listingId,
                     resultJson,
@@ -64,6 +69,33 @@ public class IdempotencyService {
         }
     }
 
+    /**
+     * Stores the whole result of a batch operation so a retry with the same key can replay it
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveBatchRecord(String idempotencyKey, Object result, int httpStatus) {
+        try {
+            String resultJson = objectMapper.writeValueAsString(result);
+            IdempotencyRecord record = IdempotencyRecord.createForBatch(idGenerator.next(), idempotencyKey, resultJson,
+                    httpStatus);
+
+            idempotencyRepository.save(record);
+            log.debug("Batch idempotency record saved for key: {}", idempotencyKey);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize result to JSON", e);
+            throw new RuntimeException("Failed to save idempotency record", e);
+        }
+    }
+
+    public <T> T readBatchResult(IdempotencyRecord record, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(record.getResultJson(), resultType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotency result cannot be read for key: "
+                    + record.getIdempotencyKey(), e);
+        }
+    }
+
     @Transactional
     public void cleanupExpiredRecords() {
         log.info("Cleaning up expired idempotency records");
@@ -0,0 +1,145 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.ListingCache;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
+import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.ListingPhoto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Listing aggregates (with photos) for the details endpoint, bounded by an estimated byte size
+ * and evicted least recently used first. Callers validate entries against the current version.
+ */
+@Service
+public class ListingDetailsCache implements ListingCache {
+
+    private static final String METRIC_PREFIX = "listing.details.cache";
+
+    private final Map<UUID, CachedListing> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final boolean enabled;
+    private final long maxBytes;
+    private long currentBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ListingDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${listing-cache.enabled:true}") boolean enabled,
+            @Value("${listing-cache.max-bytes:16777216}") long maxBytes
+    ) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, ListingDetailsCache::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bytes", this, ListingDetailsCache::bytes).register(meterRegistry);
+    }
+
+    /**
+     * Cached listing if it is still at currentVersion; a stale entry is dropped
+     */
+    public Optional<Listing> get(UUID id, long currentVersion) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            CachedListing cached = entries.get(id);
+            if (cached != null && cached.listing().getVersion() == currentVersion) {
+                hits.increment();
+                return Optional.of(cached.listing());
+            }
+            if (cached != null) {
+                remove(id);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(Listing listing) {
+        if (!enabled || listing.getVersion() == null) {
+            return;
+        }
+
+        long size = estimateSize(listing);
+        if (size > maxBytes) {
+            return;
+        }
+
+        synchronized (this) {
+            CachedListing previous = entries.put(listing.getId(), new CachedListing(listing, size));
+            if (previous != null) {
+                currentBytes -= previous.size();
+            }
+            currentBytes += size;
+            evictOverBudget();
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(UUID id) {
+        remove(id);
+    }
+
+    // Committed changes only - a rolled back publish must not drop a valid entry
+    @TransactionalEventListener
+    public void onListingChanged(ListingChangedEvent event) {
+        invalidate(event.getListingId());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return currentBytes;
+    }
+
+    private void remove(UUID id) {
+        CachedListing removed = entries.remove(id);
+        if (removed != null) {
+            currentBytes -= removed.size();
+        }
+    }
+
+    private void evictOverBudget() {
+        Iterator<CachedListing> iterator = entries.values().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= iterator.next().size();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Rough heap footprint: object overhead plus two bytes per char of the text fields
+     */
+    private static long estimateSize(Listing listing) {
+        long size = 256 + 2L * listing.getTitle().length();
+        if (listing.getDescription() != null) {
+            size += 2L * listing.getDescription().length();
+        }
+        for (ListingPhoto photo : listing.getPhotos()) {
+            size += 160 + 2L * (photo.getMetadata().getFilename().length() + photo.getStoragePath().length());
+        }
+        return size;
+    }
+
+    private record CachedListing(Listing listing, long size) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.OutboxEvent;
+import com.classifiedsplatform.application.port.out.OutboxRepository;
+import com.classifiedsplatform.application.port.out.OutboxSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the outbox in id order: each batch is locked, handed to every sink and deleted in one transaction.
+ * A failing sink rolls the batch back and it is retried on the next poll (at-least-once). The row lock makes
+ * relays on other nodes wait instead of delivering the same batch. Events of one listing are delivered in
+ * commit order: their ids come one at a time from the shared sequence while the listing row is locked.
+ * Across listings, id order is only insertion order
+ */
+@Service
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter delivered;
+    private final Counter failures;
+
+    public OutboxRelay(
+            OutboxRepository outboxRepository,
+            List<OutboxSink> sinks,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:200}") int batchSize
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.delivered = Counter.builder("outbox.relay.delivered").register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            // Keep going while batches come back full
+            while (relayBatch() == batchSize) {
+                log.debug("Outbox batch of {} relayed, continuing", batchSize);
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay failed, the batch will be retried", e);
+        }
+    }
+
+    /**
+     * Relays one batch; returns how many events it delivered
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxRepository.lockOldest(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            sinks.forEach(sink -> sink.deliver(batch));
+            outboxRepository.deleteByIds(batch.stream().map(OutboxEvent::id).toList());
+            return batch.size();
+        });
+
+        int count = relayed == null ? 0 : relayed;
+        delivered.increment(count);
+        return count;
+    }
+}
@@ -0,0 +1,70 @@
+package com.classifiedsplatform.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader, callers
+ * arriving while it is in flight wait for and share its result or exception.
+ * Nothing is kept once the load completes, so a later caller always loads again.
+ * Callers must not hold a transaction while waiting - it would pin a pooled connection.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.loads = Counter.builder("single.flight.calls").tag("name", name).tag("result", "load")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("single.flight.calls").tag("name", name).tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Same exception the leader saw, e.g. ListingNotFoundException for the handler mapping
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
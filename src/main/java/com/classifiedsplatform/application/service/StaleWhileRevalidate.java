@@ -0,0 +1,157 @@
+package com.classifiedsplatform.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the last value loaded per key. While loads stay within the latency budget they run on the
+ * caller's thread, exactly as without this class. Once a load of a key exceeds the budget, the key's next
+ * refreshes go to the executor and callers wait up to the budget for them, then get the last known value;
+ * a refresh that is back within the budget returns the key to caller-thread loads. One background refresh
+ * per key is in flight at a time, and when the executor is full the last known value is served without one.
+ * Disabled, it just calls the loader.
+ */
+public class StaleWhileRevalidate<K, V> {
+
+    private static final String METRIC_NAME = "stale.while.revalidate.calls";
+
+    private final boolean enabled;
+    private final long latencyBudgetMs;
+    private final int maxEntries;
+    private final Executor executor;
+
+    private final Map<K, Known<V>> lastKnown = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> refreshing = new ConcurrentHashMap<>();
+
+    private final Counter fresh;
+    private final Counter stale;
+    private final Counter refreshFailures;
+
+    public StaleWhileRevalidate(String name, boolean enabled, long latencyBudgetMs, int maxEntries,
+                                Executor executor, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.latencyBudgetMs = latencyBudgetMs;
+        this.maxEntries = maxEntries;
+        this.executor = executor;
+        this.fresh = Counter.builder(METRIC_NAME).tag("name", name).tag("result", "fresh").register(meterRegistry);
+        this.stale = Counter.builder(METRIC_NAME).tag("name", name).tag("result", "stale").register(meterRegistry);
+        this.refreshFailures = Counter.builder("stale.while.revalidate.refresh.failures").tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Known<V> previous = lastKnown(key);
+        CompletableFuture<V> refresh = refreshing.get(key);
+        if (previous == null || (refresh == null && !previous.slow())) {
+            // Nothing to fall back on, or a healthy key: no hand-off, no queueing
+            V value = load(key, loader);
+            fresh.increment();
+            return value;
+        }
+
+        if (refresh == null) {
+            refresh = refreshInBackground(key, loader);
+        }
+        if (refresh == null) {
+            // Executor saturated: the last known value beats loading past the budget on this thread
+            stale.increment();
+            return previous.value();
+        }
+
+        try {
+            V value = refresh.get(latencyBudgetMs, TimeUnit.MILLISECONDS);
+            fresh.increment();
+            return value;
+        } catch (TimeoutException e) {
+            stale.increment();
+            return previous.value();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stale.increment();
+            return previous.value();
+        } catch (ExecutionException e) {
+            // Failures inside the budget surface as usual, e.g. ListingNotFoundException
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private V load(K key, Supplier<V> loader) {
+        long start = System.nanoTime();
+        V value = loader.get();
+        remember(key, value, start);
+        return value;
+    }
+
+    private CompletableFuture<V> refreshInBackground(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = refreshing.putIfAbsent(key, own);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            // Unregistered before completing, so a later call never joins a refresh that already finished
+            executor.execute(() -> {
+                try {
+                    V value = load(key, loader);
+                    refreshing.remove(key, own);
+                    own.complete(value);
+                } catch (Throwable e) {
+                    refreshFailures.increment();
+                    refreshing.remove(key, own);
+                    own.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key, own);
+            return null;
+        }
+        return own;
+    }
+
+    boolean isRefreshing(K key) {
+        return refreshing.containsKey(key);
+    }
+
+    boolean isSlow(K key) {
+        Known<V> known = lastKnown(key);
+        return known != null && known.slow();
+    }
+
+    private synchronized Known<V> lastKnown(K key) {
+        return lastKnown.get(key);
+    }
+
+    private synchronized void remember(K key, V value, long startNanos) {
+        boolean slow = System.nanoTime() - startNanos > TimeUnit.MILLISECONDS.toNanos(latencyBudgetMs);
+        lastKnown.put(key, new Known<>(value, slow));
+        if (lastKnown.size() > maxEntries) {
+            K eldest = lastKnown.keySet().iterator().next();
+            lastKnown.remove(eldest);
+        }
+    }
+
+    private record Known<V>(V value, boolean slow) {
+    }
+}
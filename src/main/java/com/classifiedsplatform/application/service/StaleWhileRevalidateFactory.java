@@ -0,0 +1,61 @@
+package com.classifiedsplatform.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates StaleWhileRevalidate instances configured per use case under
+ * stale-while-revalidate.{useCase}.*, all sharing one bounded pool for the background refreshes of slow keys
+ */
+@Service
+public class StaleWhileRevalidateFactory {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public StaleWhileRevalidateFactory(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${stale-while-revalidate.threads:4}") int threads,
+            @Value("${stale-while-revalidate.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger counter = new AtomicInteger();
+        // Only refreshes of slow keys come here; a full queue rejects them and the last known value is served
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "revalidate-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public <K, V> StaleWhileRevalidate<K, V> create(String useCase) {
+        String prefix = "stale-while-revalidate." + useCase + ".";
+        return new StaleWhileRevalidate<>(
+                useCase,
+                environment.getProperty(prefix + "enabled", Boolean.class, false),
+                environment.getProperty(prefix + "latency-budget-ms", Long.class, 200L),
+                environment.getProperty(prefix + "max-entries", Integer.class, 10_000),
+                executor,
+                meterRegistry
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,103 @@
+package com.classifiedsplatform.application.usecase;
+
+import com.classifiedsplatform.application.port.in.BulkCreateListingsCommand;
+import com.classifiedsplatform.application.port.in.BulkCreateResult;
+import com.classifiedsplatform.application.port.in.CreateListingCommand;
+import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
+import com.classifiedsplatform.domain.id.IdGenerator;
+import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.vo.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Transactional
+public class BulkCreateListingsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkCreateListingsUseCase.class);
+
+    private final ListingRepository listingRepository;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxItems;
+
+    public BulkCreateListingsUseCase(
+            ListingRepository listingRepository,
+            IdGenerator idGenerator,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${listing-bulk-create.max-items:1000}") int maxItems
+    ) {
+        this.listingRepository = listingRepository;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Validates every item with the same rules as a single create, then inserts the valid ones
+     * in JDBC batches within one transaction. Invalid items are reported by index and skipped
+     */
+    public BulkCreateResult execute(BulkCreateListingsCommand command) {
+        List<BulkCreateListingsCommand.Item> items = command.items();
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Cannot create more than " + maxItems + " listings at once");
+        }
+
+        BulkCreateResult.Item[] results = new BulkCreateResult.Item[items.size()];
+        List<Listing> valid = new ArrayList<>(items.size());
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                valid.add(toListing(items.get(i)));
+                validIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = new BulkCreateResult.Item(i, null, e.getMessage());
+            }
+        }
+
+        List<Listing> savedListings = listingRepository.saveAll(valid);
+        for (int i = 0; i < savedListings.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = new BulkCreateResult.Item(index, savedListings.get(i).getId(), null);
+        }
+
+        // Picked up by the search index after commit
+        LocalDateTime now = LocalDateTime.now();
+        savedListings.forEach(listing -> eventPublisher.publishEvent(new ListingChangedEvent(listing, now)));
+
+        log.info("Bulk create finished: {} of {} listings created", savedListings.size(), items.size());
+        return new BulkCreateResult(List.of(results));
+    }
+
+    private Listing toListing(BulkCreateListingsCommand.Item item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Listing cannot be null");
+        }
+
+        CreateListingCommand command = new CreateListingCommand(
+                item.title(),
+                item.description(),
+                item.priceAmount(),
+                item.priceCurrency(),
+                item.category()
+        );
+
+        return Listing.create(
+                idGenerator.next(),
+                command.title(),
+                command.description(),
+                Money.of(command.priceAmount(), command.priceCurrency()),
+                command.category()
+        );
+    }
+}
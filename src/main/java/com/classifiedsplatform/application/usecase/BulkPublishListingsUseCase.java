@@ -0,0 +1,144 @@
+package com.classifiedsplatform.application.usecase;
+
+import com.classifiedsplatform.application.port.in.BulkPublishListingsCommand;
+import com.classifiedsplatform.application.port.in.BulkPublishResult;
+import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.application.service.AuditLogService;
+import com.classifiedsplatform.application.service.EventOutbox;
+import com.classifiedsplatform.application.service.IdempotencyService;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
+import com.classifiedsplatform.domain.event.ListingPublishedEvent;
+import com.classifiedsplatform.domain.exception.IdempotencyConflictException;
+import com.classifiedsplatform.domain.model.IdempotencyRecord;
+import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class BulkPublishListingsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkPublishListingsUseCase.class);
+
+    private final ListingRepository listingRepository;
+    private final IdempotencyService idempotencyService;
+    private final AuditLogService auditLogService;
+    private final EventOutbox eventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxIds;
+
+    public BulkPublishListingsUseCase(
+            ListingRepository listingRepository,
+            IdempotencyService idempotencyService,
+            AuditLogService auditLogService,
+            EventOutbox eventOutbox,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${listing-bulk-publish.max-ids:500}") int maxIds
+    ) {
+        this.listingRepository = listingRepository;
+        this.idempotencyService = idempotencyService;
+        this.auditLogService = auditLogService;
+        this.eventOutbox = eventOutbox;
+        this.eventPublisher = eventPublisher;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Publishes every DRAFT among the ids in one transaction; other ids are reported, not failed.
+     * Duplicate ids are handled once, at their first position
+     */
+    public BulkPublishResult execute(BulkPublishListingsCommand command) {
+        Set<UUID> ids = new LinkedHashSet<>(command.listingIds());
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("Cannot publish more than " + maxIds + " listings at once");
+        }
+        log.debug("Executing bulk publish for {} listings, idempotencyKey: {}", ids.size(), command.idempotencyKey());
+
+        // Check idempotency: the key covers the whole batch, so a retry replays the stored per-id results
+        if (command.idempotencyKey() != null) {
+            Optional<IdempotencyRecord> existingRecord = idempotencyService.findByKey(command.idempotencyKey());
+
+            if (existingRecord.isPresent()) {
+                return replay(existingRecord.get(), ids);
+            }
+        }
+
+        // Same compare-and-set into PUBLISHED as the single publish, sent as one JDBC batch
+        Set<UUID> published = listingRepository.compareAndSetStatuses(
+                ids, ListingStatus.PUBLISHED.allowedFrom(), ListingStatus.PUBLISHED, LocalDateTime.now());
+
+        Set<UUID> rejected = ids.stream()
+                .filter(id -> !published.contains(id))
+                .collect(Collectors.toSet());
+        Map<UUID, ListingStatus> rejectedStatuses = listingRepository.findStatusesByIds(rejected);
+
+        List<BulkPublishResult.Item> items = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            items.add(toItem(id, published.contains(id), rejectedStatuses.get(id)));
+        }
+        BulkPublishResult result = new BulkPublishResult(List.copyOf(items));
+
+        if (!published.isEmpty()) {
+            // Published state for the audit entries and the search index, in two IN queries
+            List<Listing> publishedListings = listingRepository.findAllByIds(published);
+            LocalDateTime now = LocalDateTime.now();
+
+            List<ListingPublishedEvent> events = publishedListings.stream()
+                    .map(listing -> new ListingPublishedEvent(listing.getId(), listing.getTitle(), now))
+                    .toList();
+            auditLogService.logListingsPublished(events);
+            eventOutbox.listingsPublished(events);
+            publishedListings.forEach(listing -> eventPublisher.publishEvent(new ListingChangedEvent(listing, now)));
+        }
+
+        // Save idempotency record
+        if (command.idempotencyKey() != null) {
+            idempotencyService.saveBatchRecord(command.idempotencyKey(), result, 200);
+        }
+
+        log.info("Bulk publish finished: {} of {} listings published", published.size(), ids.size());
+        return result;
+    }
+
+    private BulkPublishResult replay(IdempotencyRecord record, Set<UUID> ids) {
+        if (!record.isBatch()) {
+            throw new IdempotencyConflictException(record.getIdempotencyKey());
+        }
+
+        BulkPublishResult stored = idempotencyService.readBatchResult(record, BulkPublishResult.class);
+        Set<UUID> storedIds = stored.items().stream()
+                .map(BulkPublishResult.Item::listingId)
+                .collect(Collectors.toSet());
+        if (!storedIds.equals(ids)) {
+            throw new IdempotencyConflictException(record.getIdempotencyKey());
+        }
+
+        log.info("Idempotent bulk publish detected for key: {}, returning cached result", record.getIdempotencyKey());
+        return stored;
+    }
+
+    private static BulkPublishResult.Item toItem(UUID id, boolean published, ListingStatus currentStatus) {
+        if (published) {
+            return new BulkPublishResult.Item(id, BulkPublishResult.Outcome.PUBLISHED, ListingStatus.PUBLISHED);
+        }
+        if (currentStatus == null) {
+            return new BulkPublishResult.Item(id, BulkPublishResult.Outcome.NOT_FOUND, null);
+        }
+        return new BulkPublishResult.Item(id, BulkPublishResult.Outcome.INVALID_STATE, currentStatus);
+    }
+}
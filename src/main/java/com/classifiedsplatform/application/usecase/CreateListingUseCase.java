@@ -2,31 +2,47 @@ package com.classifiedsplatform.application.usecase;
 
 import com.classifiedsplatform.application.port.in.CreateListingCommand;
 import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
+import com.classifiedsplatform.domain.id.IdGenerator;
 import com.classifiedsplatform.domain.model.Listing;
 import com.classifiedsplatform.domain.model.vo.Money;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @Transactional
 public class CreateListingUseCase {
 
     private final ListingRepository listingRepository;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CreateListingUseCase(ListingRepository listingRepository) {
+    public CreateListingUseCase(ListingRepository listingRepository, IdGenerator idGenerator,
+                                ApplicationEventPublisher eventPublisher) {
         this.listingRepository = listingRepository;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
     }
 
     public Listing execute(CreateListingCommand command) {
         Money price = Money.of(command.priceAmount(), command.priceCurrency());
 
         Listing listing = Listing.create(
+                idGenerator.next(),
                 command.title(),
                 command.description(),
                 price,
                 command.category()
         );
 
-        return listingRepository.save(listing);
+        Listing savedListing = listingRepository.save(listing);
+
+        // Picked up by the search index after commit
+        eventPublisher.publishEvent(new ListingChangedEvent(savedListing, LocalDateTime.now()));
+
+        return savedListing;
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.classifiedsplatform.application.usecase;
+
+import com.classifiedsplatform.application.port.in.CursorPage;
+import com.classifiedsplatform.application.port.in.ExportAuditLogQuery;
+import com.classifiedsplatform.application.port.in.GetAuditLogQuery;
+import com.classifiedsplatform.application.port.out.AuditLogCursor;
+import com.classifiedsplatform.application.port.out.AuditLogRepository;
+import com.classifiedsplatform.domain.model.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Audit history without loading it whole: keyset pages for browsing, a streamed export for everything
+ */
+@Service
+public class GetAuditLogUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GetAuditLogUseCase.class);
+
+    private final AuditLogRepository auditLogRepository;
+
+    public GetAuditLogUseCase(AuditLogRepository auditLogRepository) {
+        this.auditLogRepository = auditLogRepository;
+    }
+
+    public CursorPage<AuditLog> executeWithCursor(GetAuditLogQuery query) {
+        AuditLogCursor cursor = query.cursor() == null || query.cursor().isBlank()
+                ? null
+                : AuditLogCursor.decode(query.cursor());
+
+        // One extra row tells whether there is a next page without counting
+        List<AuditLog> rows = query.listingId() != null
+                ? auditLogRepository.findByListingIdAfter(query.listingId(), cursor, query.size() + 1)
+                : auditLogRepository.findByEventTypeAfter(query.eventType(), cursor, query.size() + 1);
+        boolean hasNext = rows.size() > query.size();
+        List<AuditLog> content = hasNext ? rows.subList(0, query.size()) : rows;
+
+        String nextCursor = hasNext
+                ? AuditLogCursor.after(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(content, query.size(), nextCursor);
+    }
+
+    /**
+     * Entries reach the consumer while the query is still reading
+     */
+    public long export(ExportAuditLogQuery query, Consumer<AuditLog> consumer) {
+        long exported = auditLogRepository.streamByEventType(query.eventType(), query.from(), query.to(), consumer);
+        log.info("Exported {} audit entries of type {}", exported, query.eventType());
+        return exported;
+    }
+}
@@ -1,25 +1,81 @@
 package com.classifiedsplatform.application.usecase;
 
 import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.application.service.ListingDetailsCache;
+import com.classifiedsplatform.application.service.SingleFlight;
+import com.classifiedsplatform.application.service.StaleWhileRevalidate;
+import com.classifiedsplatform.application.service.StaleWhileRevalidateFactory;
 import com.classifiedsplatform.domain.exception.ListingNotFoundException;
 import com.classifiedsplatform.domain.model.Listing;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Not transactional on purpose: a cache hit costs one version lookup,
+ * only a miss loads the aggregate in the repository's own read-only transaction
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetListingDetailsUseCase {
 
     private final ListingRepository listingRepository;
+    private final ListingDetailsCache cache;
+    private final SingleFlight<ListingVersion, Listing> loads;
+    private final StaleWhileRevalidate<UUID, Long> versions;
 
-    public GetListingDetailsUseCase(ListingRepository listingRepository) {
+    public GetListingDetailsUseCase(
+            ListingRepository listingRepository,
+            ListingDetailsCache cache,
+            MeterRegistry meterRegistry,
+            StaleWhileRevalidateFactory staleWhileRevalidate
+    ) {
         this.listingRepository = listingRepository;
+        this.cache = cache;
+        this.loads = new SingleFlight<>("listing-details", meterRegistry);
+        this.versions = staleWhileRevalidate.create("listing-details");
     }
 
     public Listing execute(UUID listingId) {
-        return listingRepository.findById(listingId)
-                .orElseThrow(() -> new ListingNotFoundException(listingId));
+        return execute(listingId, currentVersion(listingId));
     }
-}
\ No newline at end of file
+
+    /**
+     * Listing at least as new as the version the caller has just looked up
+     */
+    public Listing execute(UUID listingId, long version) {
+        Optional<Listing> cached = cache.get(listingId, version);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // Concurrent misses for a hot listing share one load; keyed by version so nobody gets an older one
+        return loads.execute(new ListingVersion(listingId, version), () -> {
+            Listing listing = listingRepository.findById(listingId)
+                    .orElseThrow(() -> new ListingNotFoundException(listingId));
+            cache.put(listing);
+            return listing;
+        });
+    }
+
+    /**
+     * Version-only lookup: no photos, no aggregate. With stale-while-revalidate enabled a slow
+     * lookup answers with the last known version, which the version-keyed caches then serve
+     */
+    public long currentVersion(UUID listingId) {
+        return versions.get(listingId, () -> lookupVersion(listingId));
+    }
+
+    private long lookupVersion(UUID listingId) {
+        Optional<Long> version = listingRepository.findVersionById(listingId);
+        if (version.isEmpty()) {
+            cache.invalidate(listingId);
+            throw new ListingNotFoundException(listingId);
+        }
+        return version.get();
+    }
+
+    private record ListingVersion(UUID listingId, long version) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.classifiedsplatform.application.usecase;
+
+import com.classifiedsplatform.application.port.in.ListingBatch;
+import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.domain.model.Listing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Listing details for many ids at once (feed and favourites pages): one query for the listings
+ * and one for their photos, instead of a request, transaction and findById per id
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetListingsBatchUseCase {
+
+    private final ListingRepository listingRepository;
+    private final int maxIds;
+
+    public GetListingsBatchUseCase(
+            ListingRepository listingRepository,
+            @Value("${listing-batch.max-ids:50}") int maxIds
+    ) {
+        this.listingRepository = listingRepository;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Duplicate ids are returned once, at their first position
+     */
+    public ListingBatch execute(List<UUID> listingIds) {
+        Set<UUID> ids = new LinkedHashSet<>(listingIds);
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one listing id is required");
+        }
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("Cannot fetch more than " + maxIds + " listings at once");
+        }
+
+        Map<UUID, Listing> found = listingRepository.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Listing::getId, Function.identity()));
+
+        List<Listing> listings = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : ids) {
+            Listing listing = found.get(id);
+            if (listing != null) {
+                listings.add(listing);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ListingBatch(listings, missingIds);
+    }
+}
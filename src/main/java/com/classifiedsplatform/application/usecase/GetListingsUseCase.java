@@ -1,36 +1,153 @@
 package com.classifiedsplatform.application.usecase;
 
+import com.classifiedsplatform.application.port.in.CursorPage;
 import com.classifiedsplatform.application.port.in.GetListingsQuery;
+import com.classifiedsplatform.application.port.in.TotalCountMode;
+import com.classifiedsplatform.application.port.out.ListingCursor;
+import com.classifiedsplatform.application.port.out.ListingFacets;
 import com.classifiedsplatform.application.port.out.ListingRepository;
-import com.classifiedsplatform.domain.model.Listing;
-import org.springframework.data.domain.Page;
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
+import com.classifiedsplatform.application.port.out.ListingSearchEngine;
+import com.classifiedsplatform.application.service.ApproximateCountService;
+import com.classifiedsplatform.application.service.SingleFlight;
+import com.classifiedsplatform.application.service.StaleWhileRevalidate;
+import com.classifiedsplatform.application.service.StaleWhileRevalidateFactory;
+import com.classifiedsplatform.domain.model.ListingSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * Not transactional: each repository call runs in its own read-only transaction, so callers
+ * waiting on an identical in-flight query do not hold a connection
+ */
 @Service
-@Transactional(readOnly = true)
 public class GetListingsUseCase {
 
     private final ListingRepository listingRepository;
+    private final ListingSearchEngine searchEngine;
+    private final ApproximateCountService approximateCountService;
+    private final SingleFlight<GetListingsQuery, Slice<ListingSummary>> pageLoads;
+    private final SingleFlight<GetListingsQuery, CursorPage<ListingSummary>> cursorLoads;
+    private final StaleWhileRevalidate<GetListingsQuery, Slice<ListingSummary>> pages;
+    private final StaleWhileRevalidate<GetListingsQuery, CursorPage<ListingSummary>> cursorPages;
 
-    public GetListingsUseCase(ListingRepository listingRepository) {
+    public GetListingsUseCase(
+            ListingRepository listingRepository,
+            ListingSearchEngine searchEngine,
+            ApproximateCountService approximateCountService,
+            MeterRegistry meterRegistry,
+            StaleWhileRevalidateFactory staleWhileRevalidate
+    ) {
         this.listingRepository = listingRepository;
+        this.searchEngine = searchEngine;
+        this.approximateCountService = approximateCountService;
+        this.pageLoads = new SingleFlight<>("listings-page", meterRegistry);
+        this.cursorLoads = new SingleFlight<>("listings-cursor", meterRegistry);
+        this.pages = staleWhileRevalidate.create("listings");
+        this.cursorPages = staleWhileRevalidate.create("listings-cursor");
+    }
+
+    /**
+     * Returns a Page with totals for EXACT and APPROXIMATE modes, a count-free Slice for NONE
+     */
+    public Slice<ListingSummary> execute(GetListingsQuery query) {
+        // Identical concurrent requests (a popular feed or search) share one load
+        GetListingsQuery key = query.normalized();
+        return pages.get(key, () -> pageLoads.execute(key, () -> load(query)));
     }
 
-    public Page<Listing> execute(GetListingsQuery query) {
+    private Slice<ListingSummary> load(GetListingsQuery query) {
         Pageable pageable = createPageable(query);
+        ListingSearchCriteria criteria = createCriteria(query);
+
+        if (query.totals() == TotalCountMode.EXACT) {
+            return listingRepository.findByFilters(criteria, pageable);
+        }
+
+        Slice<ListingSummary> slice = listingRepository.findSliceByFilters(criteria, pageable);
+        if (query.totals() == TotalCountMode.NONE) {
+            return slice;
+        }
+
+        long total = approximateCountService.count(criteria);
+        return new ApproximatePage<>(slice, total);
+    }
+
+    /**
+     * Counts per category, status, currency and price bucket for the same filters, in one grouped query
+     */
+    public ListingFacets countFacets(GetListingsQuery query) {
+        return listingRepository.countFacets(createCriteria(query));
+    }
+
+    public CursorPage<ListingSummary> executeWithCursor(GetListingsQuery query) {
+        GetListingsQuery key = query.normalized();
+        return cursorPages.get(key, () -> cursorLoads.execute(key, () -> loadAfterCursor(query)));
+    }
+
+    private CursorPage<ListingSummary> loadAfterCursor(GetListingsQuery query) {
+        ListingCursor cursor = createCursor(query);
+        ListingSearchCriteria criteria = createCriteria(query);
+
+        // One extra row tells whether there is a next page without counting
+        List<ListingSummary> rows = listingRepository.findByFiltersAfter(criteria, cursor, query.size() + 1);
+        boolean hasNext = rows.size() > query.size();
+        List<ListingSummary> content = hasNext ? rows.subList(0, query.size()) : rows;
+
+        String nextCursor = hasNext
+                ? cursor.after(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(content, query.size(), nextCursor);
+    }
+
+    private ListingCursor createCursor(GetListingsQuery query) {
+        String field = query.sortBy() != null ? query.sortBy() : "createdAt";
+        Sort.Direction direction = createDirection(query.sortDirection());
+
+        if (query.cursor() == null || query.cursor().isBlank()) {
+            return ListingCursor.first(field, direction);
+        }
+
+        ListingCursor cursor = ListingCursor.decode(query.cursor());
+        if (!cursor.matches(field, direction)) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        return cursor;
+    }
 
-        return listingRepository.findByFilters(
+    private ListingSearchCriteria createCriteria(GetListingsQuery query) {
+        ListingSearchCriteria criteria = ListingSearchCriteria.of(
                 query.query(),
                 query.category(),
                 query.status(),
+                query.currency(),
                 query.minPrice(),
-                query.maxPrice(),
-                pageable
+                query.maxPrice()
         );
+
+        // Answer the text part from the search engine, the database only hydrates the matching ids
+        if (query.query() != null && !query.query().isBlank()) {
+            criteria = searchEngine.findMatchingIds(query.query())
+                    .map(criteria::withCandidates)
+                    .orElse(criteria);
+        }
+
+        // Selective category/status/currency/price combinations narrow the ids further
+        if (criteria.hasAttributeFilter()) {
+            criteria = searchEngine.findMatchingIds(criteria)
+                    .map(criteria::narrowedTo)
+                    .orElse(criteria);
+        }
+
+        return criteria;
     }
 
     private Pageable createPageable(GetListingsQuery query) {
@@ -40,10 +157,37 @@ public class GetListingsUseCase {
 
     private Sort createSort(String sortBy, String sortDirection) {
         String field = sortBy != null ? sortBy : "createdAt";
-        Sort.Direction direction = "asc".equalsIgnoreCase(sortDirection)
+        Sort.Direction direction = createDirection(sortDirection);
+        // id makes the order total and matches the trailing column of the search indexes
+        return Sort.by(direction, field).and(Sort.by(direction, "id"));
+    }
+
+    private Sort.Direction createDirection(String sortDirection) {
+        return "asc".equalsIgnoreCase(sortDirection)
                 ? Sort.Direction.ASC
                 : Sort.Direction.DESC;
+    }
+
+    /**
+     * Page with an estimated total: the size+1 probe, not the estimate, decides whether a next page exists
+     */
+    private static final class ApproximatePage<T> extends PageImpl<T> {
+
+        private final boolean hasNext;
+
+        ApproximatePage(Slice<T> slice, long approximateTotal) {
+            super(slice.getContent(), slice.getPageable(), approximateTotal);
+            this.hasNext = slice.hasNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
 
-        return Sort.by(direction, field);
+        @Override
+        public boolean isLast() {
+            return !hasNext;
+        }
     }
-}
\ No newline at end of file
+}
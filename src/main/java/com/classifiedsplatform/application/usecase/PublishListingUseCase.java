@@ -3,17 +3,24 @@ package com.classifiedsplatform.application.usecase;
 import com.classifiedsplatform.application.port.in.PublishListingCommand;
 import com.classifiedsplatform.application.port.out.ListingRepository;
 import com.classifiedsplatform.application.service.AuditLogService;
+import com.classifiedsplatform.application.service.EventOutbox;
 import com.classifiedsplatform.application.service.IdempotencyService;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
 import com.classifiedsplatform.domain.event.ListingPublishedEvent;
+import com.classifiedsplatform.domain.exception.IdempotencyConflictException;
+import com.classifiedsplatform.domain.exception.InvalidStateTransitionException;
 import com.classifiedsplatform.domain.exception.ListingNotFoundException;
 import com.classifiedsplatform.domain.model.IdempotencyRecord;
 import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,15 +33,21 @@ public class PublishListingUseCase {
     private final ListingRepository listingRepository;
     private final IdempotencyService idempotencyService;
     private final AuditLogService auditLogService;
+    private final EventOutbox eventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PublishListingUseCase(
             ListingRepository listingRepository,
             IdempotencyService idempotencyService,
-            AuditLogService auditLogService
+            AuditLogService auditLogService,
+            EventOutbox eventOutbox,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.listingRepository = listingRepository;
         this.idempotencyService = idempotencyService;
         this.auditLogService = auditLogService;
+        this.eventOutbox = eventOutbox;
+        this.eventPublisher = eventPublisher;
     }
 
     public Listing execute(PublishListingCommand command) {
@@ -49,21 +62,29 @@ public class PublishListingUseCase {
             if (existingRecord.isPresent()) {
                 log.info("Idempotent request detected for key: {}, returning cached result",
                         command.idempotencyKey());
+                if (existingRecord.get().isBatch()) {
+                    // Key was used by a bulk publish
+                    throw new IdempotencyConflictException(command.idempotencyKey());
+                }
                 UUID cachedListingId = existingRecord.get().getListingId();
                 return listingRepository.findById(cachedListingId)
                         .orElseThrow(() -> new ListingNotFoundException(cachedListingId));
             }
         }
 
-        // Find listing
-        Listing listing = listingRepository.findById(command.listingId())
-                .orElseThrow(() -> new ListingNotFoundException(command.listingId()));
-
-        // Publish (domain logic with state validation)
-        listing.publish();
+        // Compare-and-set: the source-status check and the write are one statement (the domain's rule, as in
+        // Listing.publish), so concurrent publishes cannot both pass and nothing is loaded to decide
+        UUID listingId = command.listingId();
+        if (!listingRepository.compareAndSetStatus(listingId, ListingStatus.PUBLISHED.allowedFrom(),
+                ListingStatus.PUBLISHED, LocalDateTime.now())) {
+            ListingStatus current = listingRepository.findStatusById(listingId)
+                    .orElseThrow(() -> new ListingNotFoundException(listingId));
+            throw new InvalidStateTransitionException(current, ListingStatus.PUBLISHED);
+        }
 
-        // Save
-        Listing publishedListing = listingRepository.save(listing);
+        // Published state for the response, the audit entry and the search index
+        Listing publishedListing = listingRepository.findById(listingId)
+                .orElseThrow(() -> new ListingNotFoundException(listingId));
 
         // Create and save audit log
         ListingPublishedEvent event = new ListingPublishedEvent(
@@ -72,6 +93,8 @@ public class PublishListingUseCase {
                 LocalDateTime.now()
         );
         auditLogService.logListingPublished(event);
+        eventOutbox.listingsPublished(List.of(event));
+        eventPublisher.publishEvent(new ListingChangedEvent(publishedListing, LocalDateTime.now()));
 
         // Save idempotency record
         if (command.idempotencyKey() != null) {
@@ -5,14 +5,18 @@ import com.classifiedsplatform.application.port.out.FileStoragePort;
 import com.classifiedsplatform.application.port.out.ListingRepository;
 import com.classifiedsplatform.application.port.out.ListingPhotoRepository;
 import com.classifiedsplatform.application.service.AuditLogService;
+import com.classifiedsplatform.application.service.EventOutbox;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
 import com.classifiedsplatform.domain.event.PhotoUploadedEvent;
 import com.classifiedsplatform.domain.exception.ListingNotFoundException;
 import com.classifiedsplatform.domain.exception.ListingPhotoLimitExceededException;
+import com.classifiedsplatform.domain.id.IdGenerator;
 import com.classifiedsplatform.domain.model.Listing;
 import com.classifiedsplatform.domain.model.ListingPhoto;
 import com.classifiedsplatform.domain.model.vo.PhotoMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,19 +34,28 @@ public class UploadListingPhotoUseCase {
 
     private final ListingRepository listingRepository;
     private final ListingPhotoRepository photoRepository;
+    private final IdGenerator idGenerator;
     private final FileStoragePort fileStorage;
     private final AuditLogService auditLogService;
+    private final EventOutbox eventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UploadListingPhotoUseCase(
             ListingRepository listingRepository,
             ListingPhotoRepository photoRepository,
+            IdGenerator idGenerator,
             FileStoragePort fileStorage,
-            AuditLogService auditLogService
+            AuditLogService auditLogService,
+            EventOutbox eventOutbox,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.listingRepository = listingRepository;
         this.photoRepository = photoRepository;
+        this.idGenerator = idGenerator;
         this.fileStorage = fileStorage;
         this.auditLogService = auditLogService;
+        this.eventOutbox = eventOutbox;
+        this.eventPublisher = eventPublisher;
     }
 
 //    public ListingPhoto execute(UploadListingPhotoCommand command) {
@@ -148,7 +161,7 @@ public class UploadListingPhotoUseCase {
                 }
 
                 // Create photo domain object
-                ListingPhoto photo = ListingPhoto.create(listingId, metadata, storagePath);
+                ListingPhoto photo = ListingPhoto.create(idGenerator.next(), listingId, metadata, storagePath);
 
                 // Save photo
                 ListingPhoto savedPhoto = photoRepository.save(photo);
@@ -169,10 +182,12 @@ public class UploadListingPhotoUseCase {
             }
 
             // Save listing once with all photos
-            listingRepository.save(listing);
+            Listing savedListing = listingRepository.save(listing);
 
             // Log all events
             events.forEach(auditLogService::logPhotoUploaded);
+            eventOutbox.photosUploaded(events);
+            eventPublisher.publishEvent(new ListingChangedEvent(savedListing, LocalDateTime.now()));
 
             log.info("Successfully uploaded {} photos for listing: {}", savedPhotos.size(), listingId);
             return savedPhotos;
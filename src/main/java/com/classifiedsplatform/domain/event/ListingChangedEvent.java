@@ -0,0 +1,28 @@
+package com.classifiedsplatform.domain.event;
+
+import com.classifiedsplatform.domain.model.Listing;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class ListingChangedEvent {
+    private final Listing listing;
+    private final LocalDateTime changedAt;
+
+    public ListingChangedEvent(Listing listing, LocalDateTime changedAt) {
+        this.listing = listing;
+        this.changedAt = changedAt;
+    }
+
+    public UUID getListingId() {
+        return listing.getId();
+    }
+
+    public Listing getListing() {
+        return listing;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -14,6 +14,12 @@ public class IdempotencyConflictException extends DomainException {
         this.listingId = listingId;
     }
 
+    public IdempotencyConflictException(String idempotencyKey) {
+        super(String.format("Idempotency key '%s' was already used for a different request", idempotencyKey));
+        this.idempotencyKey = idempotencyKey;
+        this.listingId = null;
+    }
+
     public String getIdempotencyKey() {
         return idempotencyKey;
     }
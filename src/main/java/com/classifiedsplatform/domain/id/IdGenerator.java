@@ -0,0 +1,12 @@
+package com.classifiedsplatform.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Source of primary keys for new aggregates and records
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+}
@@ -0,0 +1,14 @@
+package com.classifiedsplatform.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Random version 4 UUIDs: no ordering, inserts land anywhere in the primary-key index
+ */
+public final class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public UUID next() {
+        return UUID.randomUUID();
+    }
+}
@@ -13,13 +13,13 @@ public class AuditLog {
     private AuditLog() {}
 
     // Factory method for creating NEW audit logs (business logic)
-    public static AuditLog create(String eventType, UUID listingId, String payloadJson) {
+    public static AuditLog create(UUID id, String eventType, UUID listingId, String payloadJson) {
         validateEventType(eventType);
         validateListingId(listingId);
         validatePayload(payloadJson);
 
         AuditLog auditLog = new AuditLog();
-        auditLog.id = UUID.randomUUID();
+        auditLog.id = id;
         auditLog.eventType = eventType;
         auditLog.listingId = listingId;
         auditLog.payloadJson = payloadJson;
@@ -17,14 +17,14 @@ public class IdempotencyRecord {
     private IdempotencyRecord() {}
 
     // Factory method for creating NEW idempotency records (business logic)
-    public static IdempotencyRecord create(String idempotencyKey, UUID listingId, String resultJson, int httpStatus) {
+    public static IdempotencyRecord create(UUID id, String idempotencyKey, UUID listingId, String resultJson, int httpStatus) {
         validateIdempotencyKey(idempotencyKey);
         validateListingId(listingId);
         validateResultJson(resultJson);
         validateHttpStatus(httpStatus);
 
         IdempotencyRecord record = new IdempotencyRecord();
-        record.id = UUID.randomUUID();
+        record.id = id;
         record.idempotencyKey = idempotencyKey;
         record.listingId = listingId;
         record.resultJson = resultJson;
@@ -34,6 +34,22 @@ public class IdempotencyRecord {
         return record;
     }
 
+    // Factory method for records of batch operations: the stored result covers several listings
+    public static IdempotencyRecord createForBatch(UUID id, String idempotencyKey, String resultJson, int httpStatus) {
+        validateIdempotencyKey(idempotencyKey);
+        validateResultJson(resultJson);
+        validateHttpStatus(httpStatus);
+
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.id = id;
+        record.idempotencyKey = idempotencyKey;
+        record.resultJson = resultJson;
+        record.httpStatus = httpStatus;
+        record.createdAt = LocalDateTime.now();
+        record.expiresAt = LocalDateTime.now().plusHours(EXPIRATION_HOURS);
+        return record;
+    }
+
     // Factory method for RECONSTITUTING from persistence layer
     public static IdempotencyRecord reconstitute(
             UUID id,
@@ -55,7 +71,6 @@ public class IdempotencyRecord {
         }
 
         validateIdempotencyKey(idempotencyKey);
-        validateListingId(listingId);
         validateResultJson(resultJson);
         validateHttpStatus(httpStatus);
 
@@ -100,6 +115,11 @@ public class IdempotencyRecord {
         return LocalDateTime.now().isAfter(expiresAt);
     }
 
+    // Batch records have no single listing
+    public boolean isBatch() {
+        return listingId == null;
+    }
+
     // Getters
     public UUID getId() {
         return id;
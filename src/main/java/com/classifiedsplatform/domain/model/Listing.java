@@ -35,12 +35,12 @@ public class Listing {
     }
 
     // Factory method for creating NEW listings (business logic)
-    public static Listing create(String title, String description, Money price, Category category) {
+    public static Listing create(UUID id, String title, String description, Money price, Category category) {
         validatePrice(price);
         validateCategory(category);
 
         Listing listing = new Listing();
-        listing.id = UUID.randomUUID();
+        listing.id = id;
         listing.title = validateAndNormalizeTitle(title);
         listing.description = validateAndNormalizeDescription(description);
         listing.price = price;
@@ -101,7 +101,7 @@ public class Listing {
 
     // Business methods
     public void publish() {
-        if (this.status != ListingStatus.DRAFT) {
+        if (this.status != ListingStatus.PUBLISHED.allowedFrom()) {
             throw new InvalidStateTransitionException(this.status, ListingStatus.PUBLISHED);
         }
         this.status = ListingStatus.PUBLISHED;
@@ -109,7 +109,7 @@ public class Listing {
     }
 
     public void archive() {
-        if (this.status != ListingStatus.PUBLISHED) {
+        if (this.status != ListingStatus.ARCHIVED.allowedFrom()) {
             throw new InvalidStateTransitionException(this.status, ListingStatus.ARCHIVED);
         }
         this.status = ListingStatus.ARCHIVED;
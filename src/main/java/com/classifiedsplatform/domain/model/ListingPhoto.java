@@ -15,13 +15,13 @@ public class ListingPhoto {
     private ListingPhoto() {}
 
     // Factory method for creating NEW photos (business logic)
-    public static ListingPhoto create(UUID listingId, PhotoMetadata metadata, String storagePath) {
+    public static ListingPhoto create(UUID id, UUID listingId, PhotoMetadata metadata, String storagePath) {
         validateListingId(listingId);
         validateMetadata(metadata);
         validateStoragePath(storagePath);
 
         ListingPhoto photo = new ListingPhoto();
-        photo.id = UUID.randomUUID();
+        photo.id = id;
         photo.listingId = listingId;
         photo.metadata = metadata;
         photo.storagePath = storagePath;
@@ -0,0 +1,93 @@
+package com.classifiedsplatform.domain.model;
+
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+import com.classifiedsplatform.domain.model.vo.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only list view of a listing: photo count instead of the photo collection
+ */
+public class ListingSummary {
+    private UUID id;
+    private String title;
+    private String description;
+    private Money price;
+    private Category category;
+    private ListingStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private int photoCount;
+
+    private ListingSummary() {}
+
+    public static ListingSummary of(
+            UUID id,
+            String title,
+            String description,
+            Money price,
+            Category category,
+            ListingStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            int photoCount
+    ) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        if (photoCount < 0) {
+            throw new IllegalArgumentException("Photo count cannot be negative");
+        }
+
+        ListingSummary summary = new ListingSummary();
+        summary.id = id;
+        summary.title = title;
+        summary.description = description;
+        summary.price = price;
+        summary.category = category;
+        summary.status = status;
+        summary.createdAt = createdAt;
+        summary.updatedAt = updatedAt;
+        summary.photoCount = photoCount;
+        return summary;
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public ListingStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public int getPhotoCount() {
+        return photoCount;
+    }
+}
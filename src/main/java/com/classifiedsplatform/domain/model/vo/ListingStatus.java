@@ -3,5 +3,16 @@ package com.classifiedsplatform.domain.model.vo;
 public enum ListingStatus {
     DRAFT,
     PUBLISHED,
-    ARCHIVED
+    ARCHIVED;
+
+    /**
+     * The status a listing must be in to move to this one; null when no transition leads here
+     */
+    public ListingStatus allowedFrom() {
+        return switch (this) {
+            case DRAFT -> null;
+            case PUBLISHED -> DRAFT;
+            case ARCHIVED -> PUBLISHED;
+        };
+    }
 }
\ No newline at end of file
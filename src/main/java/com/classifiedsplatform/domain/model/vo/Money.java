@@ -5,6 +5,9 @@ import java.math.RoundingMode;
 import java.util.Objects;
 
 public final class Money {
+    // Matches the DECIMAL(19,2) price columns
+    private static final int MAX_INTEGER_DIGITS = 17;
+
     private final BigDecimal amount;
     private final Currency currency;
 
@@ -18,7 +21,11 @@ public final class Money {
         if (currency == null) {
             throw new IllegalArgumentException("Currency cannot be null");
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        BigDecimal scaled = amount.setScale(2, RoundingMode.HALF_UP);
+        if (scaled.precision() - scaled.scale() > MAX_INTEGER_DIGITS) {
+            throw new IllegalArgumentException("Amount cannot exceed " + MAX_INTEGER_DIGITS + " integer digits");
+        }
+        this.amount = scaled;
         this.currency = currency;
     }
 
@@ -0,0 +1,30 @@
+package com.classifiedsplatform.infrastructure.config;
+
+import com.classifiedsplatform.domain.id.IdGenerator;
+import com.classifiedsplatform.domain.id.RandomUuidGenerator;
+import com.classifiedsplatform.domain.id.UuidV7Generator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the id generator handed to the domain factories: uuid-v7 (time-ordered) or random (version 4)
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorConfig.class);
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${id-generator.strategy:uuid-v7}") String strategy) {
+        IdGenerator generator = switch (strategy) {
+            case "uuid-v7" -> new UuidV7Generator();
+            case "random" -> new RandomUuidGenerator();
+            default -> throw new IllegalArgumentException("Unknown id-generator.strategy: " + strategy);
+        };
+        log.info("Using {} ids for new records", strategy);
+        return generator;
+    }
+}
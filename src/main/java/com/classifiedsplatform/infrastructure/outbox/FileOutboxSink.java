@@ -0,0 +1,60 @@
+package com.classifiedsplatform.infrastructure.outbox;
+
+import com.classifiedsplatform.application.port.out.OutboxEvent;
+import com.classifiedsplatform.application.port.out.OutboxSink;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends relayed events to a local file, one JSON object per line, synced before the batch is acknowledged
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.file.enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(@Value("${outbox.sink.file.path:./outbox/events.ndjson}") String path,
+                          ObjectMapper objectMapper) throws IOException {
+        this.path = Paths.get(path).toAbsolutePath().normalize();
+        this.objectMapper = objectMapper;
+        Files.createDirectories(this.path.getParent());
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxEvent> events) {
+        try {
+            List<String> lines = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                lines.add(toLine(event));
+            }
+            Files.write(path, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append outbox events to " + path, e);
+        }
+    }
+
+    private String toLine(OutboxEvent event) throws JsonProcessingException {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("id", event.id());
+        line.put("aggregateId", event.aggregateId().toString());
+        line.put("eventType", event.eventType());
+        line.put("createdAt", event.createdAt().toString());
+        line.set("payload", objectMapper.readTree(event.payload()));
+        return objectMapper.writeValueAsString(line);
+    }
+}
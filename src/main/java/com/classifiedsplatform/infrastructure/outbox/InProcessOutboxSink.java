@@ -0,0 +1,29 @@
+package com.classifiedsplatform.infrastructure.outbox;
+
+import com.classifiedsplatform.application.port.out.OutboxEvent;
+import com.classifiedsplatform.application.port.out.OutboxSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Republishes relayed events as application events: consume them with @EventListener(OutboxEvent.class).
+ * Listeners run inside the relay transaction, so a listener exception causes redelivery
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.in-process.enabled", havingValue = "true", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -1,49 +1,292 @@
 package com.classifiedsplatform.infrastructure.persistence.adapter;
 
+import com.classifiedsplatform.application.port.out.AuditLogCursor;
 import com.classifiedsplatform.application.port.out.AuditLogRepository;
+import com.classifiedsplatform.domain.id.UuidV7Generator;
 import com.classifiedsplatform.domain.model.AuditLog;
-import com.classifiedsplatform.infrastructure.persistence.entity.AuditLogEntity;
-import com.classifiedsplatform.infrastructure.persistence.mapper.AuditLogEntityMapper;
-import com.classifiedsplatform.infrastructure.persistence.repository.JpaAuditLogRepository;
+import com.classifiedsplatform.infrastructure.persistence.repository.AuditLogPartitions;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Routes audit entries to monthly tables by created_at. Reads union only the buckets that can match:
+ * a time range selects them directly, and a time-ordered listing id bounds them from below,
+ * since nothing is audited for a listing before it exists. Pages seek by (created_at, id) in every bucket
+ * instead of using OFFSET; exports read bucket by bucket through a forward-only, fetch-size cursor.
+ */
 @Component
 @Transactional
 public class AuditLogRepositoryAdapter implements AuditLogRepository {
 
-    private final JpaAuditLogRepository jpaRepository;
-    private final AuditLogEntityMapper mapper;
+    private static final int INSERT_BATCH_SIZE = 100;
 
-    public AuditLogRepositoryAdapter(JpaAuditLogRepository jpaRepository, AuditLogEntityMapper mapper) {
-        this.jpaRepository = jpaRepository;
-        this.mapper = mapper;
+    // Listing ids are stamped by the creating node's clock: allow for skew against the auditing node
+    private static final Duration ID_CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private static final String COLUMNS = "id, event_type, listing_id, payload_json, created_at";
+
+    private static final String AFTER_CURSOR = " AND (created_at < ? OR (created_at = ? AND id < ?))";
+
+    private static final String NEWEST_FIRST = " ORDER BY created_at DESC, id DESC";
+
+    private final AuditLogPartitions partitions;
+    private final EntityManager entityManager;
+    private final int streamFetchSize;
+
+    public AuditLogRepositoryAdapter(AuditLogPartitions partitions,
+                                     EntityManager entityManager,
+                                     @Value("${audit-log.stream.fetch-size:500}") int streamFetchSize) {
+        this.partitions = partitions;
+        this.entityManager = entityManager;
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
     public AuditLog save(AuditLog auditLog) {
-        AuditLogEntity entity = mapper.toEntity(auditLog);
-        AuditLogEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        saveAll(List.of(auditLog));
+        return auditLog;
+    }
+
+    @Override
+    public void saveAll(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+
+        Map<YearMonth, List<AuditLog>> byMonth = auditLogs.stream()
+                .collect(Collectors.groupingBy(entry -> YearMonth.from(entry.getCreatedAt()),
+                        TreeMap::new, Collectors.toList()));
+
+        try {
+            for (Map.Entry<YearMonth, List<AuditLog>> bucket : byMonth.entrySet()) {
+                String table = partitions.tableFor(bucket.getKey());
+                insert(table, bucket.getValue());
+            }
+        } catch (ConstraintViolationException | DataException e) {
+            // Raw JDBC bypasses Spring's translation: name row-level rejections the way the port promises
+            throw new DataIntegrityViolationException(e.getMessage(), e);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AuditLog> findByListingId(UUID listingId) {
-        return jpaRepository.findByListingIdOrderByCreatedAtDesc(listingId).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return query(partitions.tablesOverlapping(listingCreated(listingId), null),
+                "listing_id = ?", List.of(listingId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AuditLog> findByEventType(String eventType) {
-        return jpaRepository.findByEventTypeOrderByCreatedAtDesc(eventType).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return query(partitions.tablesOverlapping(null, null), "event_type = ?", List.of(eventType));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLog> findByEventType(String eventType, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+        return query(partitions.tablesOverlapping(from, to),
+                "event_type = ? AND created_at >= ? AND created_at < ?",
+                List.of(eventType, Timestamp.valueOf(from), Timestamp.valueOf(to)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLog> findByListingIdAfter(UUID listingId, AuditLogCursor cursor, int limit) {
+        return queryPage(partitions.tablesOverlapping(listingCreated(listingId), upperBound(cursor)),
+                "listing_id = ?", List.of(listingId), cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLog> findByEventTypeAfter(String eventType, AuditLogCursor cursor, int limit) {
+        return queryPage(partitions.tablesOverlapping(null, upperBound(cursor)),
+                "event_type = ?", List.of(eventType), cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamByEventType(String eventType, LocalDateTime from, LocalDateTime to,
+                                  Consumer<AuditLog> consumer) {
+        List<String> tables = new ArrayList<>(partitions.tablesOverlapping(from, to));
+        Collections.reverse(tables);
+
+        StringBuilder condition = new StringBuilder(" WHERE event_type = ?");
+        List<Object> parameters = new ArrayList<>(List.of(eventType));
+        if (from != null) {
+            condition.append(" AND created_at >= ?");
+            parameters.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            condition.append(" AND created_at < ?");
+            parameters.add(Timestamp.valueOf(to));
+        }
+
+        // One bucket at a time, in index order: nothing is sorted or collected across buckets
+        return session().doReturningWork(connection -> {
+            long streamed = 0;
+            for (String table : tables) {
+                String sql = "SELECT " + COLUMNS + " FROM " + table + condition + " ORDER BY created_at, id";
+                try (PreparedStatement statement = connection.prepareStatement(
+                        sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    statement.setFetchSize(streamFetchSize);
+                    for (int i = 0; i < parameters.size(); i++) {
+                        statement.setObject(i + 1, parameters.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            consumer.accept(toDomain(resultSet));
+                            streamed++;
+                        }
+                    }
+                }
+            }
+            return streamed;
+        });
+    }
+
+    @Override
+    public void prepareBucket(LocalDateTime createdAt) {
+        partitions.prepare(YearMonth.from(createdAt));
+    }
+
+    @Override
+    public int purgeBefore(LocalDateTime cutoff) {
+        return partitions.dropEndingBefore(cutoff).size();
+    }
+
+    private void insert(String table, List<AuditLog> entries) {
+        String sql = "INSERT INTO " + table + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?)";
+        session().doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (AuditLog entry : entries) {
+                    statement.setObject(1, entry.getId());
+                    statement.setString(2, entry.getEventType());
+                    statement.setObject(3, entry.getListingId());
+                    statement.setString(4, entry.getPayloadJson());
+                    statement.setTimestamp(5, Timestamp.valueOf(entry.getCreatedAt()));
+                    statement.addBatch();
+                    if (++pending == INSERT_BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    // One statement over all selected buckets: UNION ALL keeps the newest-first order global
+    private List<AuditLog> query(List<String> tables, String condition, List<Object> parameters) {
+        if (tables.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = tables.stream()
+                .map(table -> "SELECT " + COLUMNS + " FROM " + table + " WHERE " + condition)
+                .collect(Collectors.joining(" UNION ALL ", "", NEWEST_FIRST));
+
+        List<Object> bound = new ArrayList<>();
+        for (int i = 0; i < tables.size(); i++) {
+            bound.addAll(parameters);
+        }
+        return select(sql, bound);
+    }
+
+    // Each bucket contributes at most limit rows past the cursor, then the merged rows are cut to limit
+    private List<AuditLog> queryPage(List<String> tables, String condition, List<Object> parameters,
+                                     AuditLogCursor cursor, int limit) {
+        if (tables.isEmpty()) {
+            return List.of();
+        }
+
+        String bucketCondition = condition + (cursor != null ? AFTER_CURSOR : "");
+        String sql = tables.stream()
+                .map(table -> "(SELECT " + COLUMNS + " FROM " + table + " WHERE " + bucketCondition
+                        + NEWEST_FIRST + " FETCH FIRST ? ROWS ONLY)")
+                .collect(Collectors.joining(" UNION ALL ",
+                        "SELECT " + COLUMNS + " FROM (", ") page" + NEWEST_FIRST + " FETCH FIRST ? ROWS ONLY"));
+
+        List<Object> bound = new ArrayList<>();
+        for (int i = 0; i < tables.size(); i++) {
+            bound.addAll(parameters);
+            if (cursor != null) {
+                Timestamp createdAt = Timestamp.valueOf(cursor.createdAt());
+                bound.addAll(List.of(createdAt, createdAt, cursor.lastId()));
+            }
+            bound.add(limit);
+        }
+        bound.add(limit);
+        return select(sql, bound);
+    }
+
+    private List<AuditLog> select(String sql, List<Object> parameters) {
+        return session().doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                List<AuditLog> entries = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        entries.add(toDomain(resultSet));
+                    }
+                }
+                return entries;
+            }
+        });
+    }
+
+    private static LocalDateTime listingCreated(UUID listingId) {
+        return UuidV7Generator.timestampOf(listingId)
+                .map(instant -> LocalDateTime.ofInstant(instant.minus(ID_CLOCK_SKEW), ZoneId.systemDefault()))
+                .orElse(null);
+    }
+
+    // Buckets starting after the cursor hold only entries already returned; the margin keeps its own bucket
+    private static LocalDateTime upperBound(AuditLogCursor cursor) {
+        return cursor != null ? cursor.createdAt().plusSeconds(1) : null;
+    }
+
+    private static AuditLog toDomain(ResultSet resultSet) throws SQLException {
+        return AuditLog.reconstitute(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("event_type"),
+                resultSet.getObject("listing_id", UUID.class),
+                resultSet.getString("payload_json"),
+                resultSet.getTimestamp("created_at").toLocalDateTime()
+        );
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
     }
-}
\ No newline at end of file
+}
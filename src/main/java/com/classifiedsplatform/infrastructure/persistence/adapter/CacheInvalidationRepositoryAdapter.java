@@ -0,0 +1,65 @@
+package com.classifiedsplatform.infrastructure.persistence.adapter;
+
+import com.classifiedsplatform.application.port.out.CacheInvalidation;
+import com.classifiedsplatform.application.port.out.CacheInvalidationRepository;
+import com.classifiedsplatform.infrastructure.persistence.entity.CacheInvalidationEntity;
+import com.classifiedsplatform.infrastructure.persistence.repository.JpaCacheInvalidationRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Transactional
+public class CacheInvalidationRepositoryAdapter implements CacheInvalidationRepository {
+
+    private final JpaCacheInvalidationRepository jpaRepository;
+
+    public CacheInvalidationRepositoryAdapter(JpaCacheInvalidationRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void append(UUID listingId, String nodeId) {
+        CacheInvalidationEntity entity = new CacheInvalidationEntity();
+        entity.setListingId(listingId);
+        entity.setNodeId(nodeId);
+        entity.setCreatedAt(LocalDateTime.now());
+        jpaRepository.save(entity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findLatestId() {
+        return jpaRepository.findLatestId();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CacheInvalidation> findAfter(long afterId, int limit) {
+        return jpaRepository.findAfter(afterId, Limit.of(limit)).stream()
+                .map(CacheInvalidationRepositoryAdapter::toInvalidation)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CacheInvalidation> findByIds(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(CacheInvalidationRepositoryAdapter::toInvalidation)
+                .toList();
+    }
+
+    @Override
+    public void deleteCreatedBefore(LocalDateTime before) {
+        jpaRepository.deleteCreatedBefore(before);
+    }
+
+    private static CacheInvalidation toInvalidation(CacheInvalidationEntity entity) {
+        return new CacheInvalidation(entity.getId(), entity.getListingId(), entity.getNodeId());
+    }
+}
@@ -1,49 +1,125 @@
 package com.classifiedsplatform.infrastructure.persistence.adapter;
 
+import com.classifiedsplatform.application.port.out.ListingCursor;
+import com.classifiedsplatform.application.port.out.ListingFacets;
 import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
 import com.classifiedsplatform.domain.model.Listing;
-import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.ListingSummary;
 import com.classifiedsplatform.domain.model.vo.ListingStatus;
 import com.classifiedsplatform.infrastructure.persistence.entity.ListingEntity;
+import com.classifiedsplatform.infrastructure.persistence.entity.ListingPhotoEntity;
 import com.classifiedsplatform.infrastructure.persistence.mapper.ListingEntityMapper;
+import com.classifiedsplatform.infrastructure.persistence.repository.JpaListingPhotoRepository;
 import com.classifiedsplatform.infrastructure.persistence.repository.JpaListingRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @Transactional
 public class ListingRepositoryAdapter implements ListingRepository {
 
+    private static final int INSERT_BATCH_SIZE = 100;
+
+    private static final String COMPARE_AND_SET_STATUS_SQL =
+            "UPDATE listings SET status = ?, updated_at = ?, version = version + 1 WHERE id = ? AND status = ?";
+
     private final JpaListingRepository jpaRepository;
+    private final JpaListingPhotoRepository jpaPhotoRepository;
     private final ListingEntityMapper mapper;
+    private final EntityManager entityManager;
 
-    public ListingRepositoryAdapter(JpaListingRepository jpaRepository, ListingEntityMapper mapper) {
+    public ListingRepositoryAdapter(JpaListingRepository jpaRepository,
+                                    JpaListingPhotoRepository jpaPhotoRepository,
+                                    ListingEntityMapper mapper,
+                                    EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.jpaPhotoRepository = jpaPhotoRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
     public Listing save(Listing listing) {
-        Optional<ListingEntity> existingEntity = jpaRepository.findById(listing.getId());
-        ListingEntity entity;
+        // New aggregate (no version yet): straight INSERT, no lookup and no merge
+        if (listing.getVersion() == null) {
+            return mapper.toDomain(jpaRepository.save(mapper.toEntity(listing)));
+        }
 
-        if (existingEntity.isPresent()) {
-            // Update existing entity
-            entity = existingEntity.get();
-            mapper.updateEntity(listing, entity);
-        } else {
-            // Create new entity
-            entity = mapper.toEntity(listing);
+        // Loaded earlier in this transaction: change the managed entity, flushed as a versioned UPDATE
+        ListingEntity reference = entityManager.getReference(ListingEntity.class, listing.getId());
+        if (Hibernate.isInitialized(reference)) {
+            if (!reference.getVersion().equals(listing.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(ListingEntity.class, listing.getId());
+            }
+            mapper.updateEntity(listing, reference);
+            return mapper.toDomain(reference);
         }
 
-        ListingEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        // Not in this persistence context: one UPDATE ... WHERE version = ? instead of SELECT + UPDATE.
+        // Photos are written through ListingPhotoRepository, not through the aggregate
+        if (jpaRepository.updateIfVersionMatches(mapper.toEntity(listing)) == 0) {
+            throw new ObjectOptimisticLockingFailureException(ListingEntity.class, listing.getId());
+        }
+        return mapper.withVersion(listing, listing.getVersion() + 1);
+    }
+
+    @Override
+    public List<Listing> saveAll(List<Listing> listings) {
+        if (listings.stream().anyMatch(listing -> listing.getVersion() != null)) {
+            throw new IllegalArgumentException("Only new listings can be saved in bulk");
+        }
+
+        // JDBC batching for these flushes only; the global setting stays off so single writes are unchanged.
+        // Each chunk is detached after its flush to keep the persistence context small on large imports
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(INSERT_BATCH_SIZE);
+        try {
+            List<Listing> saved = new ArrayList<>(listings.size());
+            for (int from = 0; from < listings.size(); from += INSERT_BATCH_SIZE) {
+                List<ListingEntity> chunk = listings.subList(from, Math.min(from + INSERT_BATCH_SIZE, listings.size()))
+                        .stream()
+                        .map(mapper::toEntity)
+                        .toList();
+                jpaRepository.saveAll(chunk);
+                entityManager.flush();
+
+                for (ListingEntity entity : chunk) {
+                    saved.add(mapper.toDomain(entity, List.of()));
+                    entityManager.detach(entity);
+                }
+            }
+            return saved;
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
     }
 
     @Override
@@ -53,18 +129,185 @@ public class ListingRepositoryAdapter implements ListingRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public boolean compareAndSetStatus(UUID id, ListingStatus expected, ListingStatus target, LocalDateTime updatedAt) {
+        return jpaRepository.compareAndSetStatus(id, expected, target, updatedAt) == 1;
+    }
+
+    @Override
+    public Set<UUID> compareAndSetStatuses(Collection<UUID> ids, ListingStatus expected, ListingStatus target,
+                                           LocalDateTime updatedAt) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        // Plain JDBC batch: JPQL bulk updates cannot be batched and would report only a total row count
+        List<UUID> orderedIds = List.copyOf(ids);
+        // Column precision, so the written value can be matched exactly when counts have to be re-checked
+        Timestamp timestamp = Timestamp.valueOf(updatedAt.truncatedTo(ChronoUnit.MICROS));
+        int[] updateCounts = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(COMPARE_AND_SET_STATUS_SQL)) {
+                for (UUID id : orderedIds) {
+                    statement.setString(1, target.name());
+                    statement.setTimestamp(2, timestamp);
+                    statement.setObject(3, id);
+                    statement.setString(4, expected.name());
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+
+        Set<UUID> updated = new HashSet<>();
+        List<UUID> unknown = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] > 0) {
+                updated.add(orderedIds.get(i));
+            } else if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(orderedIds.get(i));
+            }
+        }
+        if (!unknown.isEmpty()) {
+            // Drivers may batch without per-row counts: a row this batch moved carries its exact timestamp
+            updated.addAll(findUpdatedTo(unknown, target, timestamp));
+        }
+        return updated;
+    }
+
+    private List<UUID> findUpdatedTo(List<UUID> ids, ListingStatus status, Timestamp updatedAt) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "SELECT id FROM listings WHERE status = ? AND updated_at = ? AND id IN (" + placeholders + ")";
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, status.name());
+                statement.setTimestamp(2, updatedAt);
+                for (int i = 0; i < ids.size(); i++) {
+                    statement.setObject(i + 3, ids.get(i));
+                }
+                List<UUID> matched = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        matched.add(resultSet.getObject(1, UUID.class));
+                    }
+                }
+                return matched;
+            }
+        });
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Page<Listing> findByFilters(
-            String query,
-            Category category,
-            ListingStatus status,
-            BigDecimal minPrice,
-            BigDecimal maxPrice,
-            Pageable pageable
-    ) {
-        return jpaRepository.findByFilters(query, category, status, minPrice, maxPrice, pageable)
-                .map(mapper::toDomain);
+    public Optional<ListingStatus> findStatusById(UUID id) {
+        return jpaRepository.findStatusById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, ListingStatus> findStatusesByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return jpaRepository.findStatusesByIds(ids).stream()
+                .collect(Collectors.toMap(JpaListingRepository.IdAndStatus::getId,
+                        JpaListingRepository.IdAndStatus::getStatus));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Listing> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<ListingEntity> entities = jpaRepository.findAllById(ids);
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<ListingPhotoEntity>> photos = jpaPhotoRepository
+                .findByListingIds(entities.stream().map(ListingEntity::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ListingPhotoEntity::getListingId));
+
+        return entities.stream()
+                .map(entity -> mapper.toDomain(entity, photos.getOrDefault(entity.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ListingSummary> findByFilters(ListingSearchCriteria criteria, Pageable pageable) {
+        // Text already matched by the search engine and nothing was found
+        if (criteria.hasCandidates() && criteria.candidateIds().isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<ListingEntity> entities = jpaRepository.findPageByFilters(criteria, pageable);
+        return new PageImpl<>(toSummaries(entities.getContent()), pageable, entities.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ListingSummary> findSliceByFilters(ListingSearchCriteria criteria, Pageable pageable) {
+        if (criteria.hasCandidates() && criteria.candidateIds().isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        Slice<ListingEntity> entities = jpaRepository.findSliceByFilters(criteria, pageable);
+        return new SliceImpl<>(toSummaries(entities.getContent()), pageable, entities.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByFilters(ListingSearchCriteria criteria) {
+        if (criteria.hasCandidates() && criteria.candidateIds().isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.countByFilters(criteria);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ListingFacets countFacets(ListingSearchCriteria criteria) {
+        if (criteria.hasCandidates() && criteria.candidateIds().isEmpty()) {
+            return ListingFacets.empty();
+        }
+        return jpaRepository.countFacets(criteria);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ListingSummary> findByFiltersAfter(ListingSearchCriteria criteria, ListingCursor cursor, int limit) {
+        if (criteria.hasCandidates() && criteria.candidateIds().isEmpty()) {
+            return List.of();
+        }
+        return toSummaries(jpaRepository.findByFiltersAfter(criteria, cursor, limit));
+    }
+
+    /**
+     * Maps a page of entities to summaries with a single grouped photo count query,
+     * so the lazy photo collections are never initialized for list views
+     */
+    private List<ListingSummary> toSummaries(List<ListingEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = entities.stream().map(ListingEntity::getId).toList();
+        Map<UUID, Long> photoCounts = jpaPhotoRepository.countByListingIds(ids).stream()
+                .collect(Collectors.toMap(
+                        JpaListingPhotoRepository.PhotoCountView::getListingId,
+                        JpaListingPhotoRepository.PhotoCountView::getPhotoCount
+                ));
+
+        return entities.stream()
+                .map(entity -> mapper.toSummary(entity, photoCounts.getOrDefault(entity.getId(), 0L).intValue()))
+                .toList();
     }
 
     @Override
@@ -0,0 +1,84 @@
+package com.classifiedsplatform.infrastructure.persistence.adapter;
+
+import com.classifiedsplatform.application.port.out.OutboxEvent;
+import com.classifiedsplatform.application.port.out.OutboxMessage;
+import com.classifiedsplatform.application.port.out.OutboxRepository;
+import com.classifiedsplatform.infrastructure.persistence.entity.OutboxEventEntity;
+import com.classifiedsplatform.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@Transactional
+public class OutboxRepositoryAdapter implements OutboxRepository {
+
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    private final JpaOutboxEventRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public OutboxRepositoryAdapter(JpaOutboxEventRepository jpaRepository, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void appendAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> entities = messages.stream()
+                .map(message -> toEntity(message, now))
+                .toList();
+
+        // Ids are drawn on persist: flush the listing change first, so they are taken under its row lock
+        // and a later change to the same listing can only get a higher id
+        entityManager.flush();
+
+        // JDBC batching for this flush only, as for audit entries
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(INSERT_BATCH_SIZE);
+        try {
+            jpaRepository.saveAll(entities);
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> lockOldest(int limit) {
+        return jpaRepository.lockOldest(Limit.of(limit)).stream()
+                .map(OutboxRepositoryAdapter::toEvent)
+                .toList();
+    }
+
+    @Override
+    public void deleteByIds(Collection<Long> ids) {
+        jpaRepository.deleteAllByIdInBatch(ids);
+    }
+
+    private static OutboxEventEntity toEntity(OutboxMessage message, LocalDateTime createdAt) {
+        OutboxEventEntity entity = new OutboxEventEntity();
+        entity.setAggregateId(message.aggregateId());
+        entity.setEventType(message.eventType());
+        entity.setPayload(message.payload());
+        entity.setCreatedAt(createdAt);
+        return entity;
+    }
+
+    private static OutboxEvent toEvent(OutboxEventEntity entity) {
+        return new OutboxEvent(entity.getId(), entity.getAggregateId(), entity.getEventType(),
+                entity.getPayload(), entity.getCreatedAt());
+    }
+}
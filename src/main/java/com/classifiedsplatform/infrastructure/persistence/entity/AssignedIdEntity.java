@@ -0,0 +1,32 @@
+package com.classifiedsplatform.infrastructure.persistence.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Entities whose UUID is assigned by the domain. Without this Spring Data cannot tell a new
+ * instance from a detached one and merges, which costs a SELECT before every INSERT.
+ * An instance is new until it is persisted or loaded.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        newEntity = false;
+    }
+}
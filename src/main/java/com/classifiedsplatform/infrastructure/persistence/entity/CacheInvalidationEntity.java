@@ -2,6 +2,8 @@ package com.classifiedsplatform.infrastructure.persistence.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -11,27 +13,25 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "audit_log")
+@Table(name = "cache_invalidations")
 @Getter
 @Setter
-public class AuditLogEntity {
+public class CacheInvalidationEntity {
 
     @Id
-    @Column(name = "id", columnDefinition = "UUID")
-    private UUID id;
-
-    @Column(name = "event_type", nullable = false, length = 100)
-    private String eventType;
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
 
     @Column(name = "listing_id", nullable = false, columnDefinition = "UUID")
     private UUID listingId;
 
-    @Column(name = "payload_json", nullable = false, columnDefinition = "TEXT")
-    private String payloadJson;
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
-    public AuditLogEntity() {
+    public CacheInvalidationEntity() {
     }
-}
\ No newline at end of file
+}
@@ -14,7 +14,7 @@ import java.util.UUID;
 @Table(name = "idempotency_records")
 @Getter
 @Setter
-public class IdempotencyRecordEntity {
+public class IdempotencyRecordEntity extends AssignedIdEntity {
 
     @Id
     @Column(name = "id", columnDefinition = "UUID")
@@ -23,7 +23,7 @@ public class IdempotencyRecordEntity {
     @Column(name = "idempotency_key", nullable = false, unique = true)
     private String idempotencyKey;
 
-    @Column(name = "listing_id", nullable = false, columnDefinition = "UUID")
+    @Column(name = "listing_id", columnDefinition = "UUID")
     private UUID listingId;
 
     @Column(name = "result_json", nullable = false, columnDefinition = "TEXT")
@@ -17,7 +17,7 @@ import java.util.UUID;
 @Table(name = "listings")
 @Getter
 @Setter
-public class ListingEntity {
+public class ListingEntity extends AssignedIdEntity {
 
     @Id
     @Column(name = "id", columnDefinition = "UUID")
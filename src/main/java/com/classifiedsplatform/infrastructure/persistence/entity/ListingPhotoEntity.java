@@ -11,7 +11,7 @@ import java.util.UUID;
 @Table(name = "photos")
 @Getter
 @Setter
-public class ListingPhotoEntity {
+public class ListingPhotoEntity extends AssignedIdEntity {
 
     @Id
     @Column(name = "id", columnDefinition = "UUID")
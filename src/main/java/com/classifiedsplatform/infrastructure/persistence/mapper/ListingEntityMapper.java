@@ -2,6 +2,7 @@ package com.classifiedsplatform.infrastructure.persistence.mapper;
 
 import com.classifiedsplatform.domain.model.Listing;
 import com.classifiedsplatform.domain.model.ListingPhoto;
+import com.classifiedsplatform.domain.model.ListingSummary;
 import com.classifiedsplatform.domain.model.vo.Money;
 import com.classifiedsplatform.infrastructure.persistence.entity.ListingEntity;
 import com.classifiedsplatform.infrastructure.persistence.entity.ListingPhotoEntity;
@@ -52,10 +53,14 @@ public class ListingEntityMapper {
         if (entity == null) {
             return null;
         }
+        return toDomain(entity, entity.getPhotos());
+    }
 
+    // Photos loaded separately, e.g. for many listings at once, leave the lazy collection untouched
+    public Listing toDomain(ListingEntity entity, List<ListingPhotoEntity> photoEntities) {
         // Map photos
         List<ListingPhoto> photos = new ArrayList<>();
-        for (ListingPhotoEntity photoEntity : entity.getPhotos()) {
+        for (ListingPhotoEntity photoEntity : photoEntities) {
             photos.add(photoMapper.toDomain(photoEntity));
         }
 
@@ -74,6 +79,25 @@ public class ListingEntityMapper {
         );
     }
 
+    // List view: does not touch the lazy photo collection
+    public ListingSummary toSummary(ListingEntity entity, int photoCount) {
+        if (entity == null) {
+            return null;
+        }
+
+        return ListingSummary.of(
+                entity.getId(),
+                entity.getTitle(),
+                entity.getDescription(),
+                Money.of(entity.getPriceAmount(), entity.getPriceCurrency()),
+                entity.getCategory(),
+                entity.getStatus(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                photoCount
+        );
+    }
+
     public void updateEntity(Listing domain, ListingEntity entity) {
         entity.setTitle(domain.getTitle());
         entity.setDescription(domain.getDescription());
@@ -83,4 +107,20 @@ public class ListingEntityMapper {
         entity.setStatus(domain.getStatus());
         entity.setUpdatedAt(domain.getUpdatedAt());
     }
-}
\ No newline at end of file
+
+    // Same aggregate after a versioned UPDATE that did not go through the persistence context
+    public Listing withVersion(Listing domain, long version) {
+        return Listing.reconstitute(
+                domain.getId(),
+                domain.getTitle(),
+                domain.getDescription(),
+                domain.getPrice(),
+                domain.getCategory(),
+                domain.getStatus(),
+                domain.getCreatedAt(),
+                domain.getUpdatedAt(),
+                version,
+                domain.getPhotos()
+        );
+    }
+}
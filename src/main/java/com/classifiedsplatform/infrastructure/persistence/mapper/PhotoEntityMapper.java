@@ -2,7 +2,6 @@ package com.classifiedsplatform.infrastructure.persistence.mapper;
 
 import com.classifiedsplatform.domain.model.ListingPhoto;
 import com.classifiedsplatform.domain.model.vo.PhotoMetadata;
-import com.classifiedsplatform.infrastructure.persistence.entity.ListingEntity;
 import com.classifiedsplatform.infrastructure.persistence.entity.ListingPhotoEntity;
 import com.classifiedsplatform.infrastructure.persistence.repository.JpaListingRepository;
 import org.springframework.stereotype.Component;
@@ -24,11 +23,8 @@ public class PhotoEntityMapper {
         ListingPhotoEntity entity = new ListingPhotoEntity();
         entity.setId(domain.getId());
 
-        ListingEntity listing = listingRepository.findById(domain.getListingId())
-                .orElseThrow(() -> new IllegalStateException(
-                        "Listing not found: " + domain.getListingId()
-                ));
-        entity.setListing(listing);
+        // Only the foreign key is needed: the managed listing if loaded, otherwise a proxy without a SELECT
+        entity.setListing(listingRepository.getReferenceById(domain.getListingId()));
 
         entity.setFilename(domain.getMetadata().getFilename());
         entity.setContentType(domain.getMetadata().getContentType());
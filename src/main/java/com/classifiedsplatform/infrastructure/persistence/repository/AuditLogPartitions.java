@@ -0,0 +1,225 @@
+package com.classifiedsplatform.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the monthly audit tables (audit_log_yyyyMM) in audit_log_partitions.
+ * Next month's bucket is created ahead of time by the retention job; writers only fall back to
+ * creating a missing bucket (and the one after it) themselves. Table names only ever come from this class.
+ * The pre-partitioning audit_log table is registered with an open end, since nodes on an older release may
+ * still write to it; retention goes by its newest entry instead.
+ */
+@Component
+public class AuditLogPartitions {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogPartitions.class);
+
+    private static final DateTimeFormatter TABLE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LEGACY_TABLE = "audit_log";
+
+    private static final String REGISTER_SQL =
+            "INSERT INTO audit_log_partitions (table_name, period_start, period_end) "
+                    + "SELECT ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM audit_log_partitions WHERE table_name = ?)";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate newTransaction;
+
+    // Buckets this node has already created or seen registered
+    private final Set<YearMonth> known = ConcurrentHashMap.newKeySet();
+
+    public AuditLogPartitions(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        // DDL commits implicitly on some databases: keep it out of the caller's transaction
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Table for entries created in the given month, created if it does not exist yet
+     */
+    public String tableFor(YearMonth month) {
+        prepare(month);
+        prepare(month.plusMonths(1));
+        return tableName(month);
+    }
+
+    /**
+     * Makes sure the bucket for the given month exists; DDL runs only if no node has registered it yet
+     */
+    public void prepare(YearMonth month) {
+        if (known.contains(month)) {
+            return;
+        }
+        if (isRegistered(tableName(month))) {
+            known.add(month);
+            return;
+        }
+        create(month);
+    }
+
+    /**
+     * Tables that may hold entries with from <= created_at < to (null bound = open), newest first
+     */
+    public List<String> tablesOverlapping(LocalDateTime from, LocalDateTime to) {
+        StringBuilder sql = new StringBuilder("SELECT table_name FROM audit_log_partitions WHERE 1 = 1");
+        if (from != null) {
+            sql.append(" AND period_end > ?");
+        }
+        if (to != null) {
+            sql.append(" AND period_start < ?");
+        }
+        sql.append(" ORDER BY period_start DESC");
+
+        return session().doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                if (from != null) {
+                    statement.setTimestamp(index++, Timestamp.valueOf(from));
+                }
+                if (to != null) {
+                    statement.setTimestamp(index, Timestamp.valueOf(to));
+                }
+                List<String> tables = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        tables.add(resultSet.getString(1));
+                    }
+                }
+                return tables;
+            }
+        });
+    }
+
+    /**
+     * Unregisters and drops every bucket that ends at or before the cutoff; returns the dropped tables.
+     * The legacy table counts as ending with its newest entry, and is kept while it is empty
+     */
+    public List<String> dropEndingBefore(LocalDateTime cutoff) {
+        List<String> expired = newTransaction.execute(status -> session().doReturningWork(connection -> {
+            List<String> tables = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT table_name FROM audit_log_partitions WHERE period_end <= ? AND table_name <> ?")) {
+                statement.setTimestamp(1, Timestamp.valueOf(cutoff));
+                statement.setString(2, LEGACY_TABLE);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        tables.add(resultSet.getString(1));
+                    }
+                }
+            }
+            if (isRegistered(LEGACY_TABLE)) {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "SELECT MAX(created_at) FROM " + LEGACY_TABLE);
+                     ResultSet resultSet = statement.executeQuery()) {
+                    Timestamp newest = resultSet.next() ? resultSet.getTimestamp(1) : null;
+                    if (newest != null && newest.toLocalDateTime().isBefore(cutoff)) {
+                        tables.add(LEGACY_TABLE);
+                    }
+                }
+            }
+            return tables;
+        }));
+
+        List<String> dropped = new ArrayList<>();
+        for (String table : expired) {
+            // Unregister first so new queries stop reading the table; another node may have won the race
+            Boolean unregistered = newTransaction.execute(status -> session().doReturningWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "DELETE FROM audit_log_partitions WHERE table_name = ?")) {
+                    statement.setString(1, table);
+                    return statement.executeUpdate() > 0;
+                }
+            }));
+            if (Boolean.TRUE.equals(unregistered)) {
+                newTransaction.executeWithoutResult(status -> session().doWork(connection -> {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("DROP TABLE IF EXISTS " + table);
+                    }
+                }));
+                dropped.add(table);
+                log.info("Dropped audit log bucket {}", table);
+            }
+        }
+        known.removeIf(month -> dropped.contains(tableName(month)));
+        return dropped;
+    }
+
+    private boolean isRegistered(String table) {
+        return session().doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT 1 FROM audit_log_partitions WHERE table_name = ?")) {
+                statement.setString(1, table);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        });
+    }
+
+    private void create(YearMonth month) {
+        String table = tableName(month);
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        try {
+            // Table before registry row: whoever sees the row can read the table
+            newTransaction.executeWithoutResult(status -> session().doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE TABLE IF NOT EXISTS " + table + " ("
+                            + "id UUID PRIMARY KEY, "
+                            + "event_type VARCHAR(100) NOT NULL, "
+                            + "listing_id UUID NOT NULL, "
+                            + "payload_json TEXT NOT NULL, "
+                            + "created_at TIMESTAMP NOT NULL, "
+                            + "CONSTRAINT fk_" + table + "_listing FOREIGN KEY (listing_id) "
+                            + "REFERENCES listings(id) ON DELETE CASCADE)");
+                    statement.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_listing_id ON "
+                            + table + "(listing_id, created_at DESC)");
+                    statement.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_event_type ON "
+                            + table + "(event_type, created_at DESC)");
+                }
+                try (PreparedStatement statement = connection.prepareStatement(REGISTER_SQL)) {
+                    statement.setString(1, table);
+                    statement.setTimestamp(2, Timestamp.valueOf(start));
+                    statement.setTimestamp(3, Timestamp.valueOf(end));
+                    statement.setString(4, table);
+                    statement.executeUpdate();
+                }
+            }));
+        } catch (RuntimeException e) {
+            // Lost a race with another node creating the same bucket: fine as long as it is registered now
+            List<String> registered = newTransaction.execute(status -> tablesOverlapping(start, end));
+            if (registered == null || !registered.contains(table)) {
+                throw e;
+            }
+        }
+        known.add(month);
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    static String tableName(YearMonth month) {
+        return "audit_log_" + month.format(TABLE_SUFFIX);
+    }
+}
@@ -0,0 +1,26 @@
+package com.classifiedsplatform.infrastructure.persistence.repository;
+
+import com.classifiedsplatform.infrastructure.persistence.entity.CacheInvalidationEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaCacheInvalidationRepository extends JpaRepository<CacheInvalidationEntity, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidationEntity c")
+    long findLatestId();
+
+    @Query("SELECT c FROM CacheInvalidationEntity c WHERE c.id > :afterId ORDER BY c.id")
+    List<CacheInvalidationEntity> findAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationEntity c WHERE c.createdAt < :before")
+    void deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +16,23 @@ public interface JpaListingPhotoRepository extends JpaRepository<ListingPhotoEnt
     @Query("SELECT p FROM ListingPhotoEntity p WHERE p.listing.id = :listingId")
     List<ListingPhotoEntity> findByListingId(@Param("listingId") UUID listingId);
 
+    @Query("SELECT p FROM ListingPhotoEntity p WHERE p.listing.id IN :listingIds ORDER BY p.createdAt, p.id")
+    List<ListingPhotoEntity> findByListingIds(@Param("listingIds") Collection<UUID> listingIds);
+
     @Query("SELECT COUNT(p) FROM ListingPhotoEntity p WHERE p.listing.id = :listingId")
     long countByListingId(@Param("listingId") UUID listingId);
+
+    @Query("""
+        SELECT p.listing.id AS listingId, COUNT(p) AS photoCount
+        FROM ListingPhotoEntity p
+        WHERE p.listing.id IN :listingIds
+        GROUP BY p.listing.id
+    """)
+    List<PhotoCountView> countByListingIds(@Param("listingIds") Collection<UUID> listingIds);
+
+    interface PhotoCountView {
+        UUID getListingId();
+
+        long getPhotoCount();
+    }
 }
\ No newline at end of file
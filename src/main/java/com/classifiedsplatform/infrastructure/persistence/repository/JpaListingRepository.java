@@ -1,37 +1,80 @@
 package com.classifiedsplatform.infrastructure.persistence.repository;
 
-import com.classifiedsplatform.domain.model.vo.Category;
 import com.classifiedsplatform.domain.model.vo.ListingStatus;
 import com.classifiedsplatform.infrastructure.persistence.entity.ListingEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.classifiedsplatform.infrastructure.search.ListingSearchDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface JpaListingRepository extends JpaRepository<ListingEntity, UUID> {
+public interface JpaListingRepository extends JpaRepository<ListingEntity, UUID>, JpaListingRepositoryCustom {
 
+    @Modifying
     @Query("""
-        SELECT l FROM ListingEntity l
-        WHERE (:query IS NULL OR
-               LOWER(l.title) LIKE LOWER(CONCAT('%', :query, '%')) OR
-               LOWER(l.description) LIKE LOWER(CONCAT('%', :query, '%')))
-        AND (:category IS NULL OR l.category = :category)
-        AND (:status IS NULL OR l.status = :status)
-        AND (:minPrice IS NULL OR l.priceAmount >= :minPrice)
-        AND (:maxPrice IS NULL OR l.priceAmount <= :maxPrice)
+        UPDATE ListingEntity l
+        SET l.status = :target, l.updatedAt = :updatedAt, l.version = l.version + 1
+        WHERE l.id = :id AND l.status = :expected
     """)
-    Page<ListingEntity> findByFilters(
-            @Param("query") String query,
-            @Param("category") Category category,
-            @Param("status") ListingStatus status,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            Pageable pageable
-    );
-}
\ No newline at end of file
+    int compareAndSetStatus(@Param("id") UUID id,
+                            @Param("expected") ListingStatus expected,
+                            @Param("target") ListingStatus target,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT l.status FROM ListingEntity l WHERE l.id = :id")
+    Optional<ListingStatus> findStatusById(@Param("id") UUID id);
+
+    @Query("SELECT l.id AS id, l.status AS status FROM ListingEntity l WHERE l.id IN :ids")
+    List<IdAndStatus> findStatusesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT l.version FROM ListingEntity l WHERE l.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Optimistic update without loading the row first; 0 means it changed or disappeared meanwhile
+     */
+    @Modifying
+    @Query("""
+        UPDATE ListingEntity l
+        SET l.title = :#{#entity.title},
+            l.description = :#{#entity.description},
+            l.priceAmount = :#{#entity.priceAmount},
+            l.priceCurrency = :#{#entity.priceCurrency},
+            l.category = :#{#entity.category},
+            l.status = :#{#entity.status},
+            l.updatedAt = :#{#entity.updatedAt},
+            l.version = l.version + 1
+        WHERE l.id = :#{#entity.id} AND l.version = :#{#entity.version}
+    """)
+    int updateIfVersionMatches(@Param("entity") ListingEntity entity);
+
+    @Query("""
+        SELECT new com.classifiedsplatform.infrastructure.search.ListingSearchDocument(
+            l.id, l.title, l.description, l.category, l.status, l.priceCurrency, l.priceAmount)
+        FROM ListingEntity l
+    """)
+    Stream<ListingSearchDocument> streamSearchDocuments();
+
+    @Query("""
+        SELECT new com.classifiedsplatform.infrastructure.search.ListingSearchDocument(
+            l.id, l.title, l.description, l.category, l.status, l.priceCurrency, l.priceAmount)
+        FROM ListingEntity l
+        WHERE l.id IN :ids
+    """)
+    List<ListingSearchDocument> findSearchDocuments(@Param("ids") Collection<UUID> ids);
+
+    interface IdAndStatus {
+        UUID getId();
+
+        ListingStatus getStatus();
+    }
+}
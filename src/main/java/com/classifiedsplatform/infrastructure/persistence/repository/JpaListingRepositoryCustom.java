@@ -0,0 +1,28 @@
+package com.classifiedsplatform.infrastructure.persistence.repository;
+
+import com.classifiedsplatform.application.port.out.ListingCursor;
+import com.classifiedsplatform.application.port.out.ListingFacets;
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
+import com.classifiedsplatform.infrastructure.persistence.entity.ListingEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Listing search queries built per request from the supplied filters only,
+ * so every filter combination gets its own SQL shape and its own cached plan
+ */
+public interface JpaListingRepositoryCustom {
+
+    Page<ListingEntity> findPageByFilters(ListingSearchCriteria criteria, Pageable pageable);
+
+    List<ListingEntity> findByFiltersAfter(ListingSearchCriteria criteria, ListingCursor cursor, int limit);
+
+    Slice<ListingEntity> findSliceByFilters(ListingSearchCriteria criteria, Pageable pageable);
+
+    long countByFilters(ListingSearchCriteria criteria);
+
+    ListingFacets countFacets(ListingSearchCriteria criteria);
+}
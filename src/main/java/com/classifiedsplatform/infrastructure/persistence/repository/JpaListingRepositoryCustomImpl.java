@@ -0,0 +1,218 @@
+package com.classifiedsplatform.infrastructure.persistence.repository;
+
+import com.classifiedsplatform.application.port.out.ListingCursor;
+import com.classifiedsplatform.application.port.out.ListingFacets;
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
+import com.classifiedsplatform.application.port.out.PriceBucket;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+import com.classifiedsplatform.infrastructure.persistence.entity.ListingEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class JpaListingRepositoryCustomImpl implements JpaListingRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ListingEntity> findPageByFilters(ListingSearchCriteria criteria, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ListingEntity> query = cb.createQuery(ListingEntity.class);
+        Root<ListingEntity> listing = query.from(ListingEntity.class);
+
+        query.select(listing)
+                .where(filterPredicates(cb, listing, criteria).toArray(Predicate[]::new))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), listing, cb));
+
+        List<ListingEntity> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // Skips the COUNT query when the page alone determines the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByFilters(criteria));
+    }
+
+    @Override
+    public List<ListingEntity> findByFiltersAfter(ListingSearchCriteria criteria, ListingCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ListingEntity> query = cb.createQuery(ListingEntity.class);
+        Root<ListingEntity> listing = query.from(ListingEntity.class);
+
+        List<Predicate> predicates = filterPredicates(cb, listing, criteria);
+        if (!cursor.isFirst()) {
+            predicates.add(seekPredicate(cb, listing, cursor));
+        }
+
+        Path<Comparable<Object>> sortPath = listing.get(cursor.sortField());
+        Path<UUID> idPath = listing.get("id");
+        boolean ascending = cursor.direction() == Sort.Direction.ASC;
+
+        // id breaks ties so the (sortField, id) order is total and matches the seek predicate
+        List<Order> orders = List.of(
+                ascending ? cb.asc(sortPath) : cb.desc(sortPath),
+                ascending ? cb.asc(idPath) : cb.desc(idPath)
+        );
+
+        query.select(listing)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Slice<ListingEntity> findSliceByFilters(ListingSearchCriteria criteria, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ListingEntity> query = cb.createQuery(ListingEntity.class);
+        Root<ListingEntity> listing = query.from(ListingEntity.class);
+
+        query.select(listing)
+                .where(filterPredicates(cb, listing, criteria).toArray(Predicate[]::new))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), listing, cb));
+
+        // One extra row decides hasNext, so no COUNT query is needed
+        List<ListingEntity> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<ListingEntity> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countByFilters(ListingSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ListingEntity> listing = query.from(ListingEntity.class);
+
+        query.select(cb.count(listing))
+                .where(filterPredicates(cb, listing, criteria).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * One GROUP BY (category, status, currency, price bucket) over the filtered rows;
+     * the handful of groups are rolled up into every facet in memory
+     */
+    @Override
+    public ListingFacets countFacets(ListingSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ListingEntity> listing = query.from(ListingEntity.class);
+
+        Path<Category> category = listing.get("category");
+        Path<ListingStatus> status = listing.get("status");
+        Path<Currency> currency = listing.get("priceCurrency");
+        Expression<Integer> bucket = priceBucket(cb, listing.get("priceAmount"));
+        Expression<Long> count = cb.count(listing);
+
+        query.multiselect(category, status, currency, bucket, count)
+                .where(filterPredicates(cb, listing, criteria).toArray(Predicate[]::new))
+                .groupBy(category, status, currency, bucket);
+
+        ListingFacets facets = ListingFacets.empty();
+        PriceBucket[] buckets = PriceBucket.values();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            facets.add(row.get(category), row.get(status), row.get(currency), buckets[row.get(bucket)], row.get(count));
+        }
+        return facets;
+    }
+
+    /**
+     * CASE expression yielding the PriceBucket ordinal of the price
+     */
+    private Expression<Integer> priceBucket(CriteriaBuilder cb, Path<BigDecimal> price) {
+        PriceBucket[] buckets = PriceBucket.values();
+        CriteriaBuilder.Case<Integer> bucketCase = cb.selectCase();
+        for (int i = 0; i < buckets.length - 1; i++) {
+            bucketCase = bucketCase.when(cb.lessThan(price, cb.literal(buckets[i].getUpperBound())), cb.literal(i));
+        }
+        return bucketCase.otherwise(cb.literal(buckets.length - 1));
+    }
+
+    /**
+     * Only supplied filters become predicates - no "(:param IS NULL OR ...)" branches
+     * that would force the database into one generic plan for every combination
+     */
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<ListingEntity> listing, ListingSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (criteria.hasCandidates()) {
+            predicates.add(listing.get("id").in(criteria.candidateIds()));
+        }
+        if (criteria.query() != null && !criteria.query().isBlank()) {
+            String pattern = "%" + criteria.query().toLowerCase() + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(listing.get("title")), pattern),
+                    cb.like(cb.lower(listing.get("description")), pattern)
+            ));
+        }
+        if (criteria.category() != null) {
+            predicates.add(cb.equal(listing.get("category"), criteria.category()));
+        }
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(listing.get("status"), criteria.status()));
+        }
+        if (criteria.currency() != null) {
+            predicates.add(cb.equal(listing.get("priceCurrency"), criteria.currency()));
+        }
+        if (criteria.minPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(listing.get("priceAmount"), criteria.minPrice()));
+        }
+        if (criteria.maxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(listing.get("priceAmount"), criteria.maxPrice()));
+        }
+
+        return predicates;
+    }
+
+    /**
+     * (sortField, id) strictly after the cursor:
+     * sortField > value OR (sortField = value AND id > lastId), reversed for DESC
+     */
+    @SuppressWarnings("unchecked")
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<ListingEntity> listing, ListingCursor cursor) {
+        Expression<Comparable<Object>> sortPath = listing.get(cursor.sortField());
+        Expression<UUID> idPath = listing.get("id");
+        Comparable<Object> value = (Comparable<Object>) cursor.sortValue();
+
+        if (cursor.direction() == Sort.Direction.ASC) {
+            return cb.or(
+                    cb.greaterThan(sortPath, value),
+                    cb.and(cb.equal(sortPath, value), cb.greaterThan(idPath, cursor.lastId()))
+            );
+        }
+        return cb.or(
+                cb.lessThan(sortPath, value),
+                cb.and(cb.equal(sortPath, value), cb.lessThan(idPath, cursor.lastId()))
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.classifiedsplatform.infrastructure.persistence.repository;
+
+import com.classifiedsplatform.infrastructure.persistence.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxEventEntity o ORDER BY o.id")
+    List<OutboxEventEntity> lockOldest(Limit limit);
+}
@@ -0,0 +1,189 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One bitmap per Category, ListingStatus and Currency value (indexed by enum ordinal)
+ * over dense internal listing numbers, plus a sorted price index over the same numbers.
+ * A filter combination is the AND of its bitmaps and the price range.
+ */
+class AttributeBitmapIndex {
+
+    private final Map<UUID, Integer> numbers = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    private final List<Attributes> attributes = new ArrayList<>();
+
+    private final RoaringBitmap[] byCategory = bitmaps(Category.values().length);
+    private final RoaringBitmap[] byStatus = bitmaps(ListingStatus.values().length);
+    private final RoaringBitmap[] byCurrency = bitmaps(Currency.values().length);
+    private final PriceIndex prices = new PriceIndex();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(UUID id, Category category, ListingStatus status, Currency currency, long priceCents) {
+        Attributes current = new Attributes(category, status, currency, priceCents);
+
+        lock.writeLock().lock();
+        try {
+            Integer number = numbers.get(id);
+            if (number == null) {
+                number = ids.size();
+                numbers.put(id, number);
+                ids.add(id);
+                attributes.add(current);
+                setBits(number, current);
+                return;
+            }
+
+            Attributes previous = attributes.get(number);
+            if (!previous.equals(current)) {
+                clearBits(number, previous);
+                setBits(number, current);
+                attributes.set(number, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            numbers.clear();
+            ids.clear();
+            attributes.clear();
+            for (RoaringBitmap[] bitmaps : List.of(byCategory, byStatus, byCurrency)) {
+                for (int i = 0; i < bitmaps.length; i++) {
+                    bitmaps[i] = new RoaringBitmap();
+                }
+            }
+            prices.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids matching every non-null attribute and the price range [minCents, maxCents]
+     * (Long.MIN_VALUE / Long.MAX_VALUE when open), or empty when more than maxCandidates
+     * match and the database narrows better with its own indexes
+     */
+    Optional<Set<UUID>> search(Category category, ListingStatus status, Currency currency,
+                               long minCents, long maxCents, int maxCandidates) {
+        boolean priceRange = minCents != Long.MIN_VALUE || maxCents != Long.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> selected = new ArrayList<>(3);
+            if (category != null) {
+                selected.add(byCategory[category.ordinal()]);
+            }
+            if (status != null) {
+                selected.add(byStatus[status.ordinal()]);
+            }
+            if (currency != null) {
+                selected.add(byCurrency[currency.ordinal()]);
+            }
+            if (selected.isEmpty() && !priceRange) {
+                return Optional.empty();
+            }
+
+            // Smallest first keeps the intermediate results small
+            selected.sort(Comparator.comparingInt(RoaringBitmap::cardinality));
+            RoaringBitmap result = selected.isEmpty() ? null : selected.get(0);
+            for (int i = 1; i < selected.size(); i++) {
+                result = result.and(selected.get(i));
+            }
+
+            if (priceRange) {
+                result = applyPriceRange(result, currency, minCents, maxCents, maxCandidates);
+            }
+
+            if (result == null || result.cardinality() > maxCandidates) {
+                return Optional.empty();
+            }
+
+            Set<UUID> matches = new HashSet<>();
+            result.forEach(number -> matches.add(ids.get(number)));
+            return Optional.of(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whichever side is smaller drives: a small attribute match is filtered by each listing's
+     * own price, otherwise the price range is read from the sorted index and ANDed in.
+     * Returns null when the range alone is already too broad.
+     */
+    private RoaringBitmap applyPriceRange(RoaringBitmap matches, Currency currency,
+                                          long minCents, long maxCents, int maxCandidates) {
+        int inRange = prices.count(currency, minCents, maxCents);
+
+        if (matches != null && matches.cardinality() <= inRange) {
+            RoaringBitmap result = new RoaringBitmap();
+            matches.forEach(number -> {
+                long cents = attributes.get(number).priceCents();
+                if (cents >= minCents && cents <= maxCents) {
+                    result.add(number);
+                }
+            });
+            return result;
+        }
+
+        if (matches == null && inRange > maxCandidates) {
+            return null;
+        }
+
+        RoaringBitmap range = prices.collect(currency, minCents, maxCents);
+        return matches == null ? range : range.and(matches);
+    }
+
+    private void setBits(int number, Attributes attributes) {
+        byCategory[attributes.category().ordinal()].add(number);
+        byStatus[attributes.status().ordinal()].add(number);
+        byCurrency[attributes.currency().ordinal()].add(number);
+        prices.add(attributes.currency(), attributes.priceCents(), number);
+    }
+
+    private void clearBits(int number, Attributes attributes) {
+        byCategory[attributes.category().ordinal()].remove(number);
+        byStatus[attributes.status().ordinal()].remove(number);
+        byCurrency[attributes.currency().ordinal()].remove(number);
+        prices.remove(attributes.currency(), attributes.priceCents(), number);
+    }
+
+    private static RoaringBitmap[] bitmaps(int count) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        return bitmaps;
+    }
+
+    private record Attributes(Category category, ListingStatus status, Currency currency, long priceCents) {
+    }
+}
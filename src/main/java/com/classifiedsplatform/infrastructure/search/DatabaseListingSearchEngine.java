@@ -0,0 +1,40 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import com.classifiedsplatform.application.port.out.ListingSearchEngine;
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
+import com.classifiedsplatform.domain.model.Listing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Default engine: full-text, attribute and price matching stay in the database query
+ */
+@Component
+@ConditionalOnProperty(name = "listing-search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseListingSearchEngine implements ListingSearchEngine {
+
+    @Override
+    public Optional<Set<UUID>> findMatchingIds(String query) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Set<UUID>> findMatchingIds(ListingSearchCriteria criteria) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void index(Listing listing) {
+        // Nothing to maintain
+    }
+
+    @Override
+    public void reindex(Collection<UUID> listingIds) {
+        // Nothing to maintain
+    }
+}
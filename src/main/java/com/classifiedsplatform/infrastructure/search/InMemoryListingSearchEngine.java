@@ -0,0 +1,122 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import com.classifiedsplatform.application.port.out.ListingSearchEngine;
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
+import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.infrastructure.persistence.repository.JpaListingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "listing-search.engine", havingValue = "in-memory")
+public class InMemoryListingSearchEngine implements ListingSearchEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryListingSearchEngine.class);
+
+    private final JpaListingRepository jpaListingRepository;
+    private final InvertedIndex textIndex = new InvertedIndex();
+    private final AttributeBitmapIndex attributeIndex = new AttributeBitmapIndex();
+    private final int maxCandidates;
+    private volatile boolean ready;
+
+    public InMemoryListingSearchEngine(
+            JpaListingRepository jpaListingRepository,
+            @Value("${listing-search.in-memory.max-candidates:5000}") int maxCandidates
+    ) {
+        this.jpaListingRepository = jpaListingRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public Optional<Set<UUID>> findMatchingIds(String query) {
+        if (!ready) {
+            // Index is still being built - let the database answer
+            return Optional.empty();
+        }
+        return textIndex.search(query, maxCandidates);
+    }
+
+    @Override
+    public Optional<Set<UUID>> findMatchingIds(ListingSearchCriteria criteria) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        // Bounds are converted once per query; the index itself compares primitive cents
+        long minCents = criteria.minPrice() != null
+                ? PriceIndex.toCents(criteria.minPrice(), RoundingMode.CEILING)
+                : Long.MIN_VALUE;
+        long maxCents = criteria.maxPrice() != null
+                ? PriceIndex.toCents(criteria.maxPrice(), RoundingMode.FLOOR)
+                : Long.MAX_VALUE;
+
+        return attributeIndex.search(
+                criteria.category(),
+                criteria.status(),
+                criteria.currency(),
+                minCents,
+                maxCents,
+                maxCandidates
+        );
+    }
+
+    @Override
+    public void index(Listing listing) {
+        textIndex.put(listing.getId(), listing.getTitle(), listing.getDescription());
+        attributeIndex.put(
+                listing.getId(),
+                listing.getCategory(),
+                listing.getStatus(),
+                listing.getPrice().getCurrency(),
+                PriceIndex.toCents(listing.getPrice().getAmount(), RoundingMode.HALF_UP)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void reindex(Collection<UUID> listingIds) {
+        if (!ready || listingIds.isEmpty()) {
+            // A rebuild in progress reads the current rows anyway
+            return;
+        }
+        jpaListingRepository.findSearchDocuments(listingIds).forEach(this::put);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        textIndex.clear();
+        attributeIndex.clear();
+        try (Stream<ListingSearchDocument> documents = jpaListingRepository.streamSearchDocuments()) {
+            documents.forEach(this::put);
+        }
+        ready = true;
+        log.info("Search index built with {} listings in {} ms",
+                textIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    private void put(ListingSearchDocument document) {
+        textIndex.put(document.id(), document.title(), document.description());
+        attributeIndex.put(
+                document.id(),
+                document.category(),
+                document.status(),
+                document.currency(),
+                PriceIndex.toCents(document.priceAmount(), RoundingMode.HALF_UP)
+        );
+    }
+}
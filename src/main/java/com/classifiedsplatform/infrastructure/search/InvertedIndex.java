@@ -0,0 +1,133 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Token -> listing ids index over title and description.
+ * Query tokens match indexed tokens by prefix, all query tokens must match (AND).
+ */
+class InvertedIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NavigableMap<String, Set<UUID>> postings = new TreeMap<>();
+    private final Map<UUID, Set<String>> documentTokens = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(UUID id, String title, String description) {
+        Set<String> tokens = tokenize(title + " " + (description != null ? description : ""));
+
+        lock.writeLock().lock();
+        try {
+            Set<String> previous = documentTokens.put(id, tokens);
+            if (previous != null) {
+                for (String token : previous) {
+                    if (!tokens.contains(token)) {
+                        removePosting(token, id);
+                    }
+                }
+            }
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, t -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTokens.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documentTokens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids matching every token of the query,
+     * or empty if any token matches more than maxCandidates listings.
+     */
+    Optional<Set<UUID>> search(String query, int maxCandidates) {
+        Set<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<UUID>> matchesPerToken = new ArrayList<>(queryTokens.size());
+            for (String token : queryTokens) {
+                Set<UUID> matches = new HashSet<>();
+                for (Set<UUID> ids : postings.subMap(token, true, token + Character.MAX_VALUE, true).values()) {
+                    matches.addAll(ids);
+                    if (matches.size() > maxCandidates) {
+                        return Optional.empty();
+                    }
+                }
+                if (matches.isEmpty()) {
+                    return Optional.of(Set.of());
+                }
+                matchesPerToken.add(matches);
+            }
+
+            // Intersect starting from the most selective token
+            matchesPerToken.sort(Comparator.comparingInt(Set::size));
+            Set<UUID> result = matchesPerToken.get(0);
+            for (int i = 1; i < matchesPerToken.size() && !result.isEmpty(); i++) {
+                result.retainAll(matchesPerToken.get(i));
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void removePosting(String token, UUID id) {
+        Set<UUID> ids = postings.get(token);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+}
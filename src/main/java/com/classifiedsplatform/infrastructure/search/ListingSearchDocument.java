@@ -0,0 +1,22 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Searchable fields of a listing, read without hydrating the aggregate
+ */
+public record ListingSearchDocument(
+        UUID id,
+        String title,
+        String description,
+        Category category,
+        ListingStatus status,
+        Currency currency,
+        BigDecimal priceAmount
+) {
+}
@@ -0,0 +1,22 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import com.classifiedsplatform.application.port.out.ListingSearchEngine;
+import com.classifiedsplatform.domain.event.ListingChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ListingSearchIndexListener {
+
+    private final ListingSearchEngine searchEngine;
+
+    public ListingSearchIndexListener(ListingSearchEngine searchEngine) {
+        this.searchEngine = searchEngine;
+    }
+
+    // Only committed changes reach the index
+    @TransactionalEventListener
+    public void onListingChanged(ListingChangedEvent event) {
+        searchEngine.index(event.getListing());
+    }
+}
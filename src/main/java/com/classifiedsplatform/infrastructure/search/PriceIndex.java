@@ -0,0 +1,164 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import com.classifiedsplatform.domain.model.vo.Currency;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Prices as long cents in sorted primitive arrays, one column per Currency, each entry
+ * paired with a dense listing number. Ranges resolve by binary search without boxing.
+ * Writes shift the arrays in place - they are rare next to reads.
+ * Not thread-safe - callers guard it.
+ */
+class PriceIndex {
+
+    private final PriceColumn[] columns = new PriceColumn[Currency.values().length];
+
+    PriceIndex() {
+        clear();
+    }
+
+    void add(Currency currency, long cents, int number) {
+        columns[currency.ordinal()].add(cents, number);
+    }
+
+    void remove(Currency currency, long cents, int number) {
+        columns[currency.ordinal()].remove(cents, number);
+    }
+
+    void clear() {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new PriceColumn();
+        }
+    }
+
+    /**
+     * Listings priced within [minCents, maxCents]; null currency means every currency
+     */
+    int count(Currency currency, long minCents, long maxCents) {
+        if (currency != null) {
+            return columns[currency.ordinal()].count(minCents, maxCents);
+        }
+        int count = 0;
+        for (PriceColumn column : columns) {
+            count += column.count(minCents, maxCents);
+        }
+        return count;
+    }
+
+    RoaringBitmap collect(Currency currency, long minCents, long maxCents) {
+        RoaringBitmap result = new RoaringBitmap();
+        if (currency != null) {
+            columns[currency.ordinal()].collect(minCents, maxCents, result);
+            return result;
+        }
+        for (PriceColumn column : columns) {
+            column.collect(minCents, maxCents, result);
+        }
+        return result;
+    }
+
+    /**
+     * Saturates at the long range: prices and bounds beyond it (from about 9.2e16) all map to the extreme.
+     * The mapping stays monotone, so a range only gains candidates, which the database then filters exactly
+     */
+    static long toCents(BigDecimal amount, RoundingMode roundingMode) {
+        BigInteger cents = amount.setScale(2, roundingMode).unscaledValue();
+        if (cents.bitLength() < Long.SIZE) {
+            return cents.longValue();
+        }
+        return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    /**
+     * Entries sorted by (cents, number)
+     */
+    private static final class PriceColumn {
+
+        private long[] cents = new long[16];
+        private int[] numbers = new int[16];
+        private int size;
+
+        void add(long value, int number) {
+            int index = position(value, number);
+            if (size == cents.length) {
+                cents = Arrays.copyOf(cents, size * 2);
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            System.arraycopy(cents, index, cents, index + 1, size - index);
+            System.arraycopy(numbers, index, numbers, index + 1, size - index);
+            cents[index] = value;
+            numbers[index] = number;
+            size++;
+        }
+
+        void remove(long value, int number) {
+            int index = position(value, number);
+            if (index == size || cents[index] != value || numbers[index] != number) {
+                return;
+            }
+            System.arraycopy(cents, index + 1, cents, index, size - index - 1);
+            System.arraycopy(numbers, index + 1, numbers, index, size - index - 1);
+            size--;
+        }
+
+        int count(long minCents, long maxCents) {
+            return Math.max(0, upperBound(maxCents) - lowerBound(minCents));
+        }
+
+        void collect(long minCents, long maxCents, RoaringBitmap into) {
+            int to = upperBound(maxCents);
+            for (int i = lowerBound(minCents); i < to; i++) {
+                into.add(numbers[i]);
+            }
+        }
+
+        // First index with cents >= value
+        private int lowerBound(long value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cents[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First index with cents > value
+        private int upperBound(long value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cents[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First index ordered at or after (value, number)
+        private int position(long value, int number) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cents[mid] < value || (cents[mid] == value && numbers[mid] < number)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.classifiedsplatform.infrastructure.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative ints, Roaring-style: values are split by their high 16 bits
+ * into chunks, each stored as a sorted array while sparse and as a 65536-bit bitmap once dense.
+ * Intersections of two bitmap chunks are plain word-level ANDs.
+ * Not thread-safe - callers guard it.
+ */
+class RoaringBitmap {
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    void add(int value) {
+        char key = highBits(value);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            containers[index] = containers[index].add(lowBits(value));
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+        System.arraycopy(containers, insertAt, containers, insertAt + 1, size - insertAt);
+        keys[insertAt] = key;
+        containers[insertAt] = new ArrayContainer().add(lowBits(value));
+        size++;
+    }
+
+    void remove(int value) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(value));
+        if (index < 0) {
+            return;
+        }
+
+        Container container = containers[index].remove(lowBits(value));
+        if (container.cardinality() > 0) {
+            containers[index] = container;
+            return;
+        }
+
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, 0, size, highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * New bitmap with the values present in both; only chunks whose keys match are compared
+     */
+    RoaringBitmap and(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.append(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    // Keys arrive in ascending order from and()
+    private void append(char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private static char highBits(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value cannot be negative: " + value);
+        }
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private interface Container {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        Container and(Container other);
+
+        void forEach(int high, IntConsumer consumer);
+    }
+
+    /**
+     * Sorted values, used up to 4096 entries (8 KB - the size of a bitmap chunk)
+     */
+    private static final class ArrayContainer implements Container {
+
+        private static final int MAX_SIZE = 4096;
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+
+            int insertAt = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_SIZE, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+            values[insertAt] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(high | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 65536 bits in 1024 longs, used once a chunk holds more than 4096 values
+     */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[1024], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long before = words[value >>> 6];
+            long after = before & ~(1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality--;
+            }
+            return cardinality <= ArrayContainer.MAX_SIZE ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                long[] result = new long[1024];
+                int count = 0;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = words[i] & bitmap.words[i];
+                    count += Long.bitCount(result[i]);
+                }
+                BitmapContainer intersection = new BitmapContainer(result, count);
+                return count <= ArrayContainer.MAX_SIZE ? intersection.toArray() : intersection;
+            }
+            // Array side is at most 4096 values - probe them against this bitmap
+            return other.and(this);
+        }
+
+        @Override
+        public void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(high | ((i << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- Pooled ids (blocks of 50 per node) do not follow commit order across nodes. One id per event,
+-- drawn after the listing row is locked, orders a listing's events by the order its changes committed
+ALTER SEQUENCE outbox_events_seq INCREMENT BY 1;
@@ -0,0 +1,4 @@
+-- Nodes still on the previous release keep inserting into audit_log during a rolling deploy. An end of
+-- "migration time" pruned those rows from range queries and let retention drop them unseen, so the legacy
+-- bucket stays open; retention drops it once its newest entry is older than the cutoff
+UPDATE audit_log_partitions SET period_end = TIMESTAMP '9999-12-31 00:00:00' WHERE table_name = 'audit_log';
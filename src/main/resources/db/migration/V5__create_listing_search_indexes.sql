@@ -0,0 +1,12 @@
+-- Composite indexes for the search access patterns:
+--   PUBLISHED in a category, newest first
+--   PUBLISHED (optionally in a category) newest first
+--   PUBLISHED within a price range
+-- Trailing id matches the (sort, id) tie-breaker, so page and count queries
+-- are answered from the index without sorting.
+CREATE INDEX idx_listings_status_category_created ON listings(status, category, created_at DESC, id);
+CREATE INDEX idx_listings_status_created ON listings(status, created_at DESC, id);
+CREATE INDEX idx_listings_status_price ON listings(status, price_amount, id);
+
+-- Leading column of the composites above
+DROP INDEX idx_listings_status;
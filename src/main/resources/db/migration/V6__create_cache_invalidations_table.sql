@@ -0,0 +1,9 @@
+-- Append-only channel: every node polls rows above its high-water mark and drops its local cache entries
+CREATE TABLE cache_invalidations (
+                                     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                     listing_id UUID NOT NULL,
+                                     node_id VARCHAR(64) NOT NULL,
+                                     created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations(created_at);
@@ -0,0 +1,2 @@
+-- Batch operations (bulk publish) keep one record per idempotency key with no single listing
+ALTER TABLE idempotency_records ALTER COLUMN listing_id DROP NOT NULL;
@@ -0,0 +1,11 @@
+-- Domain events written in the same transaction as the change; the relay drains it in id order.
+-- Ids come from a sequence (not identity) so Hibernate can batch the inserts
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+                               id BIGINT PRIMARY KEY,
+                               aggregate_id UUID NOT NULL,
+                               event_type VARCHAR(100) NOT NULL,
+                               payload TEXT NOT NULL,
+                               created_at TIMESTAMP NOT NULL
+);
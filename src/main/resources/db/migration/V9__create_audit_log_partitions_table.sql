@@ -0,0 +1,13 @@
+-- Registry of the time buckets audit entries are routed to: one table per month (audit_log_yyyyMM),
+-- created on first use. Retention drops whole buckets instead of deleting rows.
+CREATE TABLE audit_log_partitions (
+                                      table_name VARCHAR(64) PRIMARY KEY,
+                                      period_start TIMESTAMP NOT NULL,
+                                      period_end TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_audit_log_partitions_period ON audit_log_partitions(period_start, period_end);
+
+-- Entries written before partitioning stay in audit_log, registered as the bucket that ends now
+INSERT INTO audit_log_partitions (table_name, period_start, period_end)
+SELECT 'audit_log', COALESCE(MIN(created_at), CURRENT_TIMESTAMP), CURRENT_TIMESTAMP FROM audit_log;
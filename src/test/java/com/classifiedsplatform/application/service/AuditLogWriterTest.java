@@ -0,0 +1,240 @@
+package com.classifiedsplatform.application.service;
+
+import com.classifiedsplatform.application.port.out.AuditLogCursor;
+import com.classifiedsplatform.application.port.out.AuditLogRepository;
+import com.classifiedsplatform.domain.model.AuditLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Group-commit audit log writer")
+class AuditLogWriterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingRepository repository = new RecordingRepository();
+    private AuditLogWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.release.countDown();
+        if (writer != null) {
+            writer.close();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write all entries of a transaction in one batch after commit, and none after rollback")
+    void shouldGroupEntriesPerTransaction() {
+        writer = create("sync", 10, 100, 1000);
+
+        TransactionSynchronizationManager.initSynchronization();
+        writer.write(List.of(entry()));
+        writer.write(List.of(entry(), entry()));
+        assertThat(repository.batches).isEmpty();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(repository.batches).hasSize(1);
+        assertThat(repository.batches.get(0)).hasSize(3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        writer.write(List.of(entry()));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(repository.batches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should flush asynchronously when the batch size is reached")
+    void shouldFlushOnSizeThreshold() {
+        writer = create("async", 100, 3, 10_000);
+
+        writer.write(List.of(entry(), entry(), entry(), entry(), entry(), entry()));
+
+        awaitUntil(() -> repository.batches.size() == 2);
+        assertThat(repository.batches).allSatisfy(batch -> assertThat(batch).hasSize(3));
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch when the flush interval passes")
+    void shouldFlushOnTimeThreshold() {
+        writer = create("async", 100, 100, 50);
+
+        writer.write(List.of(entry(), entry()));
+
+        awaitUntil(() -> repository.batches.size() == 1);
+        assertThat(repository.batches.get(0)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should make the producer write its own entries when the buffer stays full")
+    void shouldApplyBackpressureWhenBufferIsFull() {
+        writer = create("async", 2, 1, 10);
+        repository.blockWriterThread = true;
+
+        // The writer thread takes the first entry and blocks in the insert, the next two fill the buffer
+        writer.write(List.of(entry()));
+        awaitUntil(() -> repository.blockedCalls > 0);
+        writer.write(List.of(entry(), entry()));
+
+        writer.write(List.of(entry()));
+
+        assertThat(repository.batches).hasSize(1);
+        assertThat(repository.callers).containsExactly(Thread.currentThread().getName());
+        assertThat(meterRegistry.get("audit.log.writer.overflows").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop only the failing entry when a batch insert fails")
+    void shouldIsolateFailingEntries() {
+        writer = create("sync", 10, 100, 1000);
+        List<AuditLog> entries = List.of(entry(), entry(), entry(), entry(), entry());
+        repository.rejected.add(entries.get(3).getId());
+
+        writer.write(entries);
+
+        assertThat(repository.batches.stream().flatMap(List::stream))
+                .containsExactlyInAnyOrder(entries.get(0), entries.get(1), entries.get(2), entries.get(4));
+        assertThat(meterRegistry.get("audit.log.writer.entries").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("audit.log.writer.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up on the whole batch at once when the failure is not caused by a row")
+    void shouldNotBisectNonIntegrityFailures() {
+        writer = create("sync", 10, 100, 1000);
+        repository.unavailable = true;
+
+        writer.write(List.of(entry(), entry(), entry(), entry(), entry()));
+
+        assertThat(repository.attempts).hasValue(1);
+        assertThat(repository.batches).isEmpty();
+        assertThat(meterRegistry.get("audit.log.writer.failures").counter().count()).isEqualTo(5);
+    }
+
+    private AuditLogWriter create(String mode, int capacity, int batchSize, long flushIntervalMs) {
+        return new AuditLogWriter(repository, TransactionOperations.withoutTransaction(), meterRegistry,
+                mode, capacity, batchSize, flushIntervalMs, 20);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static AuditLog entry() {
+        return AuditLog.create(UUID.randomUUID(), "LISTING_PUBLISHED", UUID.randomUUID(), "{}");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition within 5s").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static class RecordingRepository implements AuditLogRepository {
+
+        private final List<List<AuditLog>> batches = new CopyOnWriteArrayList<>();
+        private final List<String> callers = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Set<UUID> rejected = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile boolean unavailable;
+        private volatile boolean blockWriterThread;
+        private volatile int blockedCalls;
+
+        @Override
+        public void saveAll(List<AuditLog> auditLogs) {
+            if (blockWriterThread && Thread.currentThread().getName().equals("audit-log-writer")) {
+                blockedCalls++;
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            if (auditLogs.stream().anyMatch(entry -> rejected.contains(entry.getId()))) {
+                throw new DataIntegrityViolationException("Constraint violation");
+            }
+            if (unavailable) {
+                attempts.incrementAndGet();
+                throw new CannotCreateTransactionException("Database unavailable");
+            }
+            callers.add(Thread.currentThread().getName());
+            batches.add(List.copyOf(auditLogs));
+        }
+
+        @Override
+        public AuditLog save(AuditLog auditLog) {
+            saveAll(List.of(auditLog));
+            return auditLog;
+        }
+
+        @Override
+        public List<AuditLog> findByListingId(UUID listingId) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByEventType(String eventType) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByEventType(String eventType, LocalDateTime from, LocalDateTime to) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByListingIdAfter(UUID listingId, AuditLogCursor cursor, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByEventTypeAfter(String eventType, AuditLogCursor cursor, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public long streamByEventType(String eventType, LocalDateTime from, LocalDateTime to,
+                                      Consumer<AuditLog> consumer) {
+            return 0;
+        }
+
+        @Override
+        public void prepareBucket(LocalDateTime createdAt) {
+        }
+
+        @Override
+        public int purgeBefore(LocalDateTime cutoff) {
+            return 0;
+        }
+    }
+}
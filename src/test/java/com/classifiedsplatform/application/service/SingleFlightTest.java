@@ -0,0 +1,111 @@
+package com.classifiedsplatform.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Single-flight request coalescing")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent callers of the same key")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("listing", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "loaded";
+                })));
+            }
+
+            // Leader is blocked in the loader until every other caller has joined it
+            awaitCalls("coalesced", CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlight()).isZero();
+
+        // Completed loads are not cached
+        assertThat(singleFlight.execute("listing", () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    @DisplayName("Should rethrow the leader's exception to every waiting caller")
+    void shouldShareFailures() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("missing", () -> {
+                await(release);
+                throw new IllegalStateException("not found");
+            }));
+            awaitCalls("load", 1);
+
+            Future<String> follower = executor.submit(() -> singleFlight.execute("missing", () -> "unexpected"));
+            awaitCalls("coalesced", 1);
+            release.countDown();
+
+            for (Future<String> result : List.of(leader, follower)) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(IllegalStateException.class)
+                        .hasRootCauseMessage("not found");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    private void awaitCalls(String result, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (calls(result) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(calls(result)).isEqualTo(expected);
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get("single.flight.calls").tag("name", "test").tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.classifiedsplatform.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Stale-while-revalidate serving")
+class StaleWhileRevalidateTest {
+
+    private static final long BUDGET_MS = 50;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should load on the caller's thread while loads stay within the budget")
+    void shouldLoadInlineWhileHealthy() {
+        StaleWhileRevalidate<String, String> reads = create(true);
+        Thread caller = Thread.currentThread();
+
+        assertThat(reads.get("listing", () -> Thread.currentThread() == caller ? "v1" : "async")).isEqualTo("v1");
+        assertThat(reads.get("listing", () -> Thread.currentThread() == caller ? "v2" : "async")).isEqualTo("v2");
+
+        assertThat(reads.isSlow("listing")).isFalse();
+        assertThat(calls("fresh")).isEqualTo(2);
+        assertThat(calls("stale")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should serve the last known value once a key exceeds the budget and revalidate in the background")
+    void shouldServeStaleValueAndRevalidate() throws Exception {
+        StaleWhileRevalidate<String, String> reads = create(true);
+
+        // Over the budget on the caller's thread: that caller still gets the value, the key turns slow
+        assertThat(reads.get("listing", () -> {
+            sleep(BUDGET_MS * 2);
+            return "v1";
+        })).isEqualTo("v1");
+        assertThat(reads.isSlow("listing")).isTrue();
+
+        CountDownLatch slowRefresh = new CountDownLatch(1);
+        long startedAt = System.nanoTime();
+        String served = reads.get("listing", () -> {
+            await(slowRefresh);
+            return "v2";
+        });
+
+        assertThat(served).isEqualTo("v1");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2_000);
+        assertThat(calls("stale")).isEqualTo(1);
+
+        slowRefresh.countDown();
+        awaitRevalidated(reads);
+
+        // Background refresh within the budget: fresh value, and the key is back to caller-thread loads
+        assertThat(reads.get("listing", () -> "v3")).isEqualTo("v3");
+        assertThat(reads.isSlow("listing")).isFalse();
+        Thread caller = Thread.currentThread();
+        assertThat(reads.get("listing", () -> Thread.currentThread() == caller ? "inline" : "async"))
+                .isEqualTo("inline");
+
+        assertThat(calls("fresh")).isEqualTo(3);
+        assertThat(calls("stale")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the last known value instead of loading inline when the pool is full")
+    void shouldServeStaleValueWhenPoolRejects() {
+        StaleWhileRevalidate<String, String> reads = new StaleWhileRevalidate<>("test", true, BUDGET_MS, 100,
+                command -> {
+                    throw new RejectedExecutionException("full");
+                }, meterRegistry);
+        reads.get("listing", () -> {
+            sleep(BUDGET_MS * 2);
+            return "v1";
+        });
+
+        assertThat(reads.get("listing", () -> "v2")).isEqualTo("v1");
+        assertThat(reads.isRefreshing("listing")).isFalse();
+        assertThat(calls("stale")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should surface failures that happen within the budget")
+    void shouldRethrowFastFailures() {
+        StaleWhileRevalidate<String, String> reads = create(true);
+        reads.get("healthy", () -> "v1");
+        reads.get("slow", () -> {
+            sleep(BUDGET_MS * 2);
+            return "v1";
+        });
+
+        // On the caller's thread and from a background refresh alike
+        assertThatThrownBy(() -> reads.get("healthy", () -> {
+            throw new IllegalArgumentException("gone");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("gone");
+        assertThatThrownBy(() -> reads.get("slow", () -> {
+            throw new IllegalArgumentException("gone");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("gone");
+    }
+
+    @Test
+    @DisplayName("Should call the loader on the caller's thread when disabled")
+    void shouldLoadInlineWhenDisabled() {
+        StaleWhileRevalidate<String, String> reads = create(false);
+        Thread caller = Thread.currentThread();
+
+        assertThat(reads.get("listing", () -> Thread.currentThread() == caller ? "inline" : "async"))
+                .isEqualTo("inline");
+        assertThat(calls("fresh") + calls("stale")).isZero();
+    }
+
+    private StaleWhileRevalidate<String, String> create(boolean enabled) {
+        return new StaleWhileRevalidate<>("test", enabled, BUDGET_MS, 100, executor, meterRegistry);
+    }
+
+    // The value is remembered before the refresh leaves the in-flight map
+    private void awaitRevalidated(StaleWhileRevalidate<String, String> reads) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (reads.isRefreshing("listing") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(reads.isRefreshing("listing")).isFalse();
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get("stale.while.revalidate.calls").tag("name", "test").tag("result", result)
+                .counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.classifiedsplatform.benchmark;
+
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Seeds random listings straight through JDBC for the opt-in benchmarks.
+ * Row count comes from -Dbenchmark.rows (default 1M).
+ */
+final class BenchmarkDataset {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private BenchmarkDataset() {}
+
+    static int rows() {
+        return Integer.getInteger("benchmark.rows", 1_000_000);
+    }
+
+    static void seedListings(JdbcTemplate jdbcTemplate, int rows) {
+        insertListings(jdbcTemplate, rows, UUID::randomUUID);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static void insertListings(JdbcTemplate jdbcTemplate, int rows, Supplier<UUID> ids) {
+        Random random = new Random(42);
+        Category[] categories = Category.values();
+        ListingStatus[] statuses = ListingStatus.values();
+        Currency[] currencies = Currency.values();
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(random.nextInt(365 * 24 * 3600)));
+            batch.add(new Object[]{
+                    ids.get(),
+                    "Benchmark listing " + i,
+                    "Generated listing number " + i,
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+                    currencies[random.nextInt(currencies.length)].name(),
+                    categories[random.nextInt(categories.length)].name(),
+                    statuses[random.nextInt(statuses.length)].name(),
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                insert(jdbcTemplate, batch);
+            }
+        }
+        insert(jdbcTemplate, batch);
+    }
+
+    /**
+     * Average nanoseconds per run after a short warmup
+     */
+    static long measure(int warmup, int iterations, Runnable run) {
+        for (int i = 0; i < warmup; i++) {
+            run.run();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            run.run();
+        }
+        return (System.nanoTime() - started) / iterations;
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO listings (id, title, description, price_amount, price_currency,
+                                      category, status, created_at, updated_at, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, batch);
+        batch.clear();
+    }
+}
@@ -0,0 +1,70 @@
+package com.classifiedsplatform.benchmark;
+
+import com.classifiedsplatform.domain.id.IdGenerator;
+import com.classifiedsplatform.domain.id.RandomUuidGenerator;
+import com.classifiedsplatform.domain.id.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts into an already large listings table with random (v4) and time-ordered (v7) keys,
+ * alternating rounds so both see the same table size, and prints rows per second for each.
+ * Opt-in: mvn test -Dtest=IdInsertBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]
+ * [-Dbenchmark.insert-rows=200000]
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:id_insert_benchmark")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Benchmark: UUIDv4 vs UUIDv7 Insert Throughput")
+class IdInsertBenchmarkTest {
+
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should compare insert throughput of random and time-ordered keys on a large table")
+    void compareInsertThroughput() {
+        int existingRows = BenchmarkDataset.rows();
+        int insertRows = Integer.getInteger("benchmark.insert-rows", 200_000);
+
+        // Existing rows keep random keys, as in a table created before the switch
+        BenchmarkDataset.seedListings(jdbcTemplate, existingRows);
+
+        Map<String, IdGenerator> generators = new LinkedHashMap<>();
+        generators.put("uuid-v4 (random)", new RandomUuidGenerator());
+        generators.put("uuid-v7 (time-ordered)", new UuidV7Generator());
+
+        // One unmeasured round each for the JIT, then alternate so growth of the table hits both equally
+        generators.values().forEach(generator -> BenchmarkDataset.insertListings(jdbcTemplate, insertRows / 10,
+                generator::next));
+
+        Map<String, Long> nanos = new LinkedHashMap<>();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            generators.forEach((name, generator) -> {
+                long started = System.nanoTime();
+                BenchmarkDataset.insertListings(jdbcTemplate, insertRows, generator::next);
+                nanos.merge(name, System.nanoTime() - started, Long::sum);
+            });
+        }
+
+        System.out.printf("%n%-25s %15s %15s%n", "key type", "rows/s", "ms per round");
+        nanos.forEach((name, total) -> System.out.printf("%-25s %15.0f %15.2f%n",
+                name, insertRows * MEASURED_ROUNDS / (total / 1e9), total / 1e6 / MEASURED_ROUNDS));
+
+        long expectedRows = existingRows + (long) (insertRows / 10) * generators.size()
+                + (long) insertRows * MEASURED_ROUNDS * generators.size();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM listings", Long.class)).isEqualTo(expectedRows);
+    }
+}
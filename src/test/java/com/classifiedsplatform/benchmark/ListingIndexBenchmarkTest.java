@@ -0,0 +1,138 @@
+package com.classifiedsplatform.benchmark;
+
+import com.classifiedsplatform.application.port.in.GetListingsQuery;
+import com.classifiedsplatform.application.port.in.TotalCountMode;
+import com.classifiedsplatform.application.usecase.GetListingsUseCase;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the GetListingsUseCase access patterns with the V5 composite indexes and with
+ * the single-column V1 indexes only, printing timings and the H2 plan for each.
+ * Opt-in: mvn test -Dtest=ListingIndexBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]
+ */
+// Rows are seeded through JDBC, so the in-memory engine would not see them - measure the database alone
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listing_index_benchmark",
+        "listing-search.engine=database"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark: Listing Search Indexes")
+class ListingIndexBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    private static final List<String> COMPOSITE_INDEXES = List.of(
+            "CREATE INDEX idx_listings_status_category_created ON listings(status, category, created_at DESC, id)",
+            "CREATE INDEX idx_listings_status_created ON listings(status, created_at DESC, id)",
+            "CREATE INDEX idx_listings_status_price ON listings(status, price_amount, id)"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GetListingsUseCase getListingsUseCase;
+
+    private final Map<String, Scenario> scenarios = new LinkedHashMap<>();
+
+    @BeforeAll
+    void seed() {
+        BenchmarkDataset.seedListings(jdbcTemplate, BenchmarkDataset.rows());
+
+        Category[] categories = Category.values();
+        scenarios.put("published in category, newest first", new Scenario(
+                i -> query(categories[i % categories.length], null, null, "createdAt", "desc"),
+                """
+                SELECT * FROM listings WHERE status = 'PUBLISHED' AND category = 'ELECTRONICS'
+                ORDER BY created_at DESC, id DESC LIMIT 20
+                """));
+        scenarios.put("published, newest first", new Scenario(
+                i -> query(null, null, null, "createdAt", "desc"),
+                """
+                SELECT * FROM listings WHERE status = 'PUBLISHED'
+                ORDER BY created_at DESC, id DESC LIMIT 20
+                """));
+        scenarios.put("published in price range", new Scenario(
+                i -> query(null, BigDecimal.valueOf(100 + i % 50), BigDecimal.valueOf(150 + i % 50), "priceAmount", "asc"),
+                """
+                SELECT * FROM listings WHERE status = 'PUBLISHED' AND price_amount BETWEEN 100.00 AND 150.00
+                ORDER BY price_amount, id LIMIT 20
+                """));
+    }
+
+    @Test
+    @DisplayName("Composite indexes should change the plan for the search access patterns")
+    void compareIndexes() {
+        // Warm the whole stack up once so the first measured pass is not penalised by the JIT
+        scenarios.values().forEach(scenario -> BenchmarkDataset.measure(0, WARMUP_ITERATIONS,
+                () -> getListingsUseCase.execute(scenario.query().apply(0))));
+
+        Map<String, Long> withComposite = run("composite indexes (V5)");
+
+        COMPOSITE_INDEXES.forEach(ddl -> jdbcTemplate.execute("DROP INDEX " + ddl.split(" ")[2]));
+        jdbcTemplate.execute("CREATE INDEX idx_listings_status ON listings(status)");
+        try {
+            Map<String, Long> singleColumn = run("single-column indexes (V1)");
+
+            System.out.printf("%n%-40s %12s %12s%n", "access pattern", "V1 ms", "V5 ms");
+            scenarios.keySet().forEach(name -> System.out.printf("%-40s %12.2f %12.2f%n",
+                    name, singleColumn.get(name) / 1e6, withComposite.get(name) / 1e6));
+        } finally {
+            jdbcTemplate.execute("DROP INDEX idx_listings_status");
+            COMPOSITE_INDEXES.forEach(jdbcTemplate::execute);
+        }
+    }
+
+    private Map<String, Long> run(String label) {
+        System.out.printf("%n===== %s =====%n", label);
+        Map<String, Long> timings = new LinkedHashMap<>();
+
+        scenarios.forEach((name, scenario) -> {
+            // Only the index and sort lines of the plan matter here
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + scenario.sql(), String.class);
+            System.out.printf("%n-- %s%n", name);
+            plan.lines()
+                    .filter(line -> line.contains("/*") || line.contains("ORDER BY"))
+                    .forEach(System.out::println);
+
+            assertThat(getListingsUseCase.execute(scenario.query().apply(0)).getContent()).isNotEmpty();
+
+            // Parameters change on every run so H2 cannot reuse the previous result
+            AtomicInteger iteration = new AtomicInteger();
+            timings.put(name, BenchmarkDataset.measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS,
+                    () -> getListingsUseCase.execute(scenario.query().apply(iteration.getAndIncrement()))));
+        });
+
+        return timings;
+    }
+
+    private static GetListingsQuery query(Category category, BigDecimal minPrice, BigDecimal maxPrice,
+                                          String sortBy, String sortDirection) {
+        return new GetListingsQuery(null, category, ListingStatus.PUBLISHED, null, minPrice, maxPrice,
+                0, 20, sortBy, sortDirection, null, TotalCountMode.EXACT);
+    }
+
+    private record Scenario(IntFunction<GetListingsQuery> query, String sql) {}
+}
@@ -0,0 +1,129 @@
+package com.classifiedsplatform.benchmark;
+
+import com.classifiedsplatform.application.port.out.ListingSearchCriteria;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+import com.classifiedsplatform.infrastructure.persistence.entity.ListingEntity;
+import com.classifiedsplatform.infrastructure.persistence.repository.JpaListingRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the old catch-all JPQL against the per-combination Criteria queries.
+ * Opt-in: mvn test -Dtest=ListingSearchBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:listing_benchmark")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark: Listing Search Query Plans")
+class ListingSearchBenchmarkTest {
+
+    private static final String CATCH_ALL_WHERE = """
+        WHERE (:query IS NULL OR
+               LOWER(l.title) LIKE LOWER(CONCAT('%', :query, '%')) OR
+               LOWER(l.description) LIKE LOWER(CONCAT('%', :query, '%')))
+        AND (:category IS NULL OR l.category = :category)
+        AND (:status IS NULL OR l.status = :status)
+        AND (:minPrice IS NULL OR l.priceAmount >= :minPrice)
+        AND (:maxPrice IS NULL OR l.priceAmount <= :maxPrice)
+    """;
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JpaListingRepository jpaListingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+    @BeforeAll
+    void seed() {
+        BenchmarkDataset.seedListings(jdbcTemplate, BenchmarkDataset.rows());
+    }
+
+    @Test
+    @DisplayName("Per-combination queries should match catch-all results")
+    void compareQueryPlans() {
+        Map<String, ListingSearchCriteria> scenarios = new LinkedHashMap<>();
+        scenarios.put("category", ListingSearchCriteria.of(null, Category.PETS, null, null, null, null));
+        scenarios.put("status", ListingSearchCriteria.of(null, null, ListingStatus.DRAFT, null, null, null));
+        scenarios.put("price range", ListingSearchCriteria.of(
+                null, null, null, null, new BigDecimal("100.00"), new BigDecimal("110.00")));
+        scenarios.put("category + status", ListingSearchCriteria.of(
+                null, Category.VEHICLES, ListingStatus.PUBLISHED, null, null, null));
+        scenarios.put("category + status + price", ListingSearchCriteria.of(
+                null, Category.SPORTS, ListingStatus.PUBLISHED, null, new BigDecimal("500.00"), new BigDecimal("900.00")));
+
+        System.out.printf("%n%-28s %14s %14s%n", "filters", "catch-all ms", "specific ms");
+        scenarios.forEach((name, criteria) -> {
+            long catchAll = measure(() -> catchAllPage(criteria).getTotalElements());
+            long specific = measure(() -> jpaListingRepository.findPageByFilters(criteria, pageable).getTotalElements());
+            System.out.printf("%-28s %14.2f %14.2f%n", name, catchAll / 1e6, specific / 1e6);
+
+            transactionTemplate.executeWithoutResult(status -> assertThat(
+                    jpaListingRepository.findPageByFilters(criteria, pageable).map(ListingEntity::getId).getContent())
+                    .isEqualTo(catchAllPage(criteria).map(ListingEntity::getId).getContent()));
+        });
+    }
+
+    private Page<ListingEntity> catchAllPage(ListingSearchCriteria criteria) {
+        TypedQuery<ListingEntity> query = bind(entityManager.createQuery(
+                "SELECT l FROM ListingEntity l " + CATCH_ALL_WHERE + " ORDER BY l.createdAt DESC, l.id DESC",
+                ListingEntity.class), criteria);
+        TypedQuery<Long> count = bind(entityManager.createQuery(
+                "SELECT COUNT(l) FROM ListingEntity l " + CATCH_ALL_WHERE, Long.class), criteria);
+
+        List<ListingEntity> content = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    private <T> TypedQuery<T> bind(TypedQuery<T> query, ListingSearchCriteria criteria) {
+        return query
+                .setParameter("query", criteria.query())
+                .setParameter("category", criteria.category())
+                .setParameter("status", criteria.status())
+                .setParameter("minPrice", criteria.minPrice())
+                .setParameter("maxPrice", criteria.maxPrice());
+    }
+
+    private long measure(Runnable run) {
+        // Each run in its own transaction, like a request
+        return BenchmarkDataset.measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS,
+                () -> transactionTemplate.executeWithoutResult(status -> run.run()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.classifiedsplatform.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Time-ordered UUIDv7 ids")
+class UuidV7GeneratorTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    @DisplayName("Should encode version 7, the RFC variant and the current millisecond")
+    void shouldEncodeVersionVariantAndTimestamp() {
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_700_000_000_123L);
+
+        UUID id = generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_123L);
+        assertThat(UuidV7Generator.timestampOf(id)).contains(Instant.ofEpochMilli(1_700_000_000_123L));
+        assertThat(UuidV7Generator.timestampOf(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stay strictly increasing within a millisecond and when the clock steps back")
+    void shouldStayMonotonic() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+        UUID previous = generator.next();
+        // More ids than the 12-bit sequence holds, then the clock goes backwards
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-1_000);
+            }
+            UUID next = generator.next();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand out unique ids to concurrent callers")
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<UUID>>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(generator.next());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Long> prefixes = new HashSet<>();
+            for (Future<List<UUID>> result : results) {
+                result.get().forEach(id -> prefixes.add(id.getMostSignificantBits()));
+            }
+            // Timestamp and sequence alone are already unique, before the random tail
+            assertThat(prefixes).hasSize(THREADS * 10_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.classifiedsplatform.integration;
+
+import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.response.ListingResponse;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Integration Test: Audit Log Admin API")
+class AuditLogAdminIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Path testUploadDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testUploadDir = Paths.get("./test-uploads/listing-images");
+        Files.createDirectories(testUploadDir);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // Clean up uploaded files
+        if (Files.exists(testUploadDir)) {
+            Files.walk(testUploadDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("Should page a listing's audit history newest first with an opaque cursor")
+    void shouldPageAuditHistoryByCursor() throws Exception {
+        UUID listingId = createAuditedListing();
+
+        JsonNode first = getJson(mockMvc.perform(get("/admin/audit-log")
+                        .param("listingId", listingId.toString())
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.content[0].eventType").value("LISTING_PUBLISHED"))
+                .andExpect(jsonPath("$.content[0].payload.listingId").value(listingId.toString()))
+                .andReturn());
+
+        JsonNode second = getJson(mockMvc.perform(get("/admin/audit-log")
+                        .param("listingId", listingId.toString())
+                        .param("size", "3")
+                        .param("cursor", first.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andReturn());
+
+        List<JsonNode> entries = new ArrayList<>();
+        first.get("content").forEach(entries::add);
+        second.get("content").forEach(entries::add);
+
+        assertThat(entries).extracting(entry -> entry.get("id").asText()).doesNotHaveDuplicates();
+        assertThat(entries).extracting(entry -> entry.get("eventType").asText())
+                .containsExactly("LISTING_PUBLISHED", "PHOTO_UPLOADED", "PHOTO_UPLOADED", "PHOTO_UPLOADED");
+        assertThat(entries).extracting(entry -> LocalDateTime.parse(entry.get("createdAt").asText()))
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("Should reject ambiguous filters, bad cursors and missing export type")
+    void shouldRejectInvalidAuditQueries() throws Exception {
+        mockMvc.perform(get("/admin/audit-log"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/audit-log")
+                        .param("listingId", UUID.randomUUID().toString())
+                        .param("eventType", "PHOTO_UPLOADED"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/audit-log")
+                        .param("eventType", "PHOTO_UPLOADED")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/audit-log")
+                        .param("eventType", "PHOTO_UPLOADED")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/audit-log/export"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream an event type's entries as NDJSON, oldest first")
+    void shouldExportAuditLogAsNdjson() throws Exception {
+        LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+        UUID listingId = createAuditedListing();
+
+        MvcResult started = mockMvc.perform(get("/admin/audit-log/export")
+                        .param("eventType", "PHOTO_UPLOADED")
+                        .param("from", from.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            JsonNode entry = objectMapper.readTree(line);
+            assertThat(entry.get("eventType").asText()).isEqualTo("PHOTO_UPLOADED");
+            assertThat(LocalDateTime.parse(entry.get("createdAt").asText())).isAfterOrEqualTo(from);
+            if (entry.get("listingId").asText().equals(listingId.toString())) {
+                lines.add(entry);
+            }
+        }
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(entry -> LocalDateTime.parse(entry.get("createdAt").asText()))
+                .isSorted();
+    }
+
+    // Three photo uploads and a publish: four audit entries
+    private UUID createAuditedListing() throws Exception {
+        CreateListingRequest request = new CreateListingRequest(
+                "Audited listing",
+                "Listing used to verify paging and export of the audit history",
+                new BigDecimal("42.00"),
+                Currency.EUR,
+                Category.ELECTRONICS
+        );
+
+        MvcResult created = mockMvc.perform(post("/listings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        UUID listingId = objectMapper.readValue(
+                created.getResponse().getContentAsString(), ListingResponse.class).id();
+
+        mockMvc.perform(multipart("/listings/{listingId}/photos", listingId)
+                        .file(photo("a.jpg"))
+                        .file(photo("b.jpg"))
+                        .file(photo("c.jpg")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isOk());
+
+        return listingId;
+    }
+
+    private MockMultipartFile photo(String filename) {
+        byte[] data = new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10};
+        return new MockMultipartFile("files", filename, "image/jpeg", data);
+    }
+
+    private JsonNode getJson(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
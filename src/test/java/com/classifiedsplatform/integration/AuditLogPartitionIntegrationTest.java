@@ -0,0 +1,168 @@
+package com.classifiedsplatform.integration;
+
+import com.classifiedsplatform.application.port.out.AuditLogRepository;
+import com.classifiedsplatform.application.port.out.ListingRepository;
+import com.classifiedsplatform.domain.id.IdGenerator;
+import com.classifiedsplatform.domain.model.AuditLog;
+import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: Time-partitioned Audit Log")
+class AuditLogPartitionIntegrationTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2001, 1, 15, 10, 0);
+    private static final LocalDateTime FEBRUARY = LocalDateTime.of(2001, 2, 10, 10, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2001, 3, 5, 10, 0);
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Test
+    @DisplayName("Should route entries to monthly buckets, prune reads and drop whole expired buckets")
+    void shouldRouteQueryAndPurgeByMonth() {
+        UUID listingId = listingRepository.save(Listing.create(
+                idGenerator.next(),
+                "Audited listing",
+                "Listing whose audit history spans several monthly buckets",
+                Money.of(new BigDecimal("10.00"), Currency.USD),
+                Category.ELECTRONICS
+        )).getId();
+        String eventType = "PARTITION_TEST_" + UUID.randomUUID();
+
+        AuditLog january = entry(eventType, listingId, JANUARY);
+        AuditLog february = entry(eventType, listingId, FEBRUARY);
+        AuditLog march = entry(eventType, listingId, MARCH);
+        AuditLog current = AuditLog.create(idGenerator.next(), eventType, listingId, "{\"month\":\"current\"}");
+        auditLogRepository.saveAll(List.of(current, march, february, january));
+
+        // The month after each written one is created ahead of time too
+        assertThat(registeredBuckets()).contains("audit_log_200101", "audit_log_200102", "audit_log_200103",
+                "audit_log_200104");
+        assertThat(rowsIn("audit_log_200102")).isEqualTo(1);
+
+        // Range query reads one bucket and applies the exact bounds
+        assertThat(auditLogRepository.findByEventType(eventType,
+                LocalDateTime.of(2001, 2, 1, 0, 0), LocalDateTime.of(2001, 3, 1, 0, 0)))
+                .extracting(AuditLog::getId)
+                .containsExactly(february.getId());
+
+        // Unbounded query unions every bucket, newest first
+        assertThat(auditLogRepository.findByEventType(eventType))
+                .extracting(AuditLog::getId)
+                .containsExactly(current.getId(), march.getId(), february.getId(), january.getId());
+
+        // The time-ordered listing id excludes buckets from before the listing existed
+        assertThat(auditLogRepository.findByListingId(listingId))
+                .extracting(AuditLog::getId)
+                .containsExactly(current.getId());
+
+        int dropped = auditLogRepository.purgeBefore(LocalDateTime.of(2001, 3, 1, 0, 0));
+
+        assertThat(dropped).isEqualTo(2);
+        assertThat(registeredBuckets()).doesNotContain("audit_log_200101", "audit_log_200102")
+                .contains("audit_log_200103");
+        assertThat(tableExists("audit_log_200101")).isFalse();
+        assertThat(auditLogRepository.findByEventType(eventType))
+                .extracting(AuditLog::getId)
+                .containsExactly(current.getId(), march.getId());
+    }
+
+    @Test
+    @DisplayName("Should create a bucket ahead of its first write")
+    void shouldPrepareBucketAheadOfWrites() {
+        assertThat(registeredBuckets()).doesNotContain("audit_log_200106");
+
+        auditLogRepository.prepareBucket(LocalDateTime.of(2001, 6, 30, 23, 59));
+        auditLogRepository.prepareBucket(LocalDateTime.of(2001, 6, 1, 0, 0));
+
+        assertThat(registeredBuckets()).containsOnlyOnce("audit_log_200106");
+        assertThat(tableExists("audit_log_200106")).isTrue();
+        assertThat(rowsIn("audit_log_200106")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report a row rejected by a constraint as a data integrity violation")
+    void shouldTranslateRowRejections() {
+        AuditLog orphan = AuditLog.create(idGenerator.next(), "PARTITION_TEST_ORPHAN", UUID.randomUUID(), "{}");
+
+        assertThatThrownBy(() -> auditLogRepository.saveAll(List.of(orphan)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep serving entries an older release writes to the legacy table after the migration")
+    void shouldKeepLegacyBucketOpen() {
+        UUID listingId = listingRepository.save(Listing.create(
+                idGenerator.next(),
+                "Listing audited by an old node",
+                "Audit entry written to the pre-partitioning table during a rolling deploy",
+                Money.of(new BigDecimal("10.00"), Currency.USD),
+                Category.ELECTRONICS
+        )).getId();
+        String eventType = "PARTITION_TEST_" + UUID.randomUUID();
+        LocalDateTime writtenAt = LocalDateTime.now().plusDays(1).withNano(0);
+        UUID legacyId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO audit_log (id, event_type, listing_id, payload_json, created_at) "
+                + "VALUES (?, ?, ?, '{}', ?)", legacyId, eventType, listingId, writtenAt);
+
+        try {
+            assertThat(auditLogRepository.findByEventType(eventType, writtenAt, writtenAt.plusSeconds(1)))
+                    .extracting(AuditLog::getId)
+                    .containsExactly(legacyId);
+
+            // Retention goes by the newest legacy entry, not by when the migration ran
+            auditLogRepository.purgeBefore(LocalDateTime.of(2000, 1, 1, 0, 0));
+            assertThat(registeredBuckets()).contains("audit_log");
+        } finally {
+            jdbcTemplate.update("DELETE FROM audit_log WHERE id = ?", legacyId);
+        }
+    }
+
+    private AuditLog entry(String eventType, UUID listingId, LocalDateTime createdAt) {
+        return AuditLog.reconstitute(UUID.randomUUID(), eventType, listingId,
+                "{\"month\":\"" + createdAt.getMonth() + "\"}", createdAt);
+    }
+
+    private List<String> registeredBuckets() {
+        return jdbcTemplate.queryForList("SELECT table_name FROM audit_log_partitions", String.class);
+    }
+
+    private Integer rowsIn(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE LOWER(TABLE_NAME) = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.classifiedsplatform.integration;
+
+import com.classifiedsplatform.ClassifiedsPlatformeApplication;
+import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.response.ListingResponse;
+import com.classifiedsplatform.application.port.out.ListingSearchEngine;
+import com.classifiedsplatform.application.service.ListingDetailsCache;
+import com.classifiedsplatform.application.usecase.GetListingDetailsUseCase;
+import com.classifiedsplatform.domain.model.Listing;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.classifiedsplatform.domain.model.vo.ListingStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "cache-invalidation.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Integration Test: Cross-node Cache Invalidation")
+class ClusterCacheInvalidationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Second node: its own context and caches over the same in-memory H2 database
+    private ConfigurableApplicationContext otherNode;
+
+    @BeforeEach
+    void setUp() {
+        otherNode = new SpringApplicationBuilder(ClassifiedsPlatformeApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--cache-invalidation.enabled=true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherNode.close();
+    }
+
+    @Test
+    @DisplayName("Should drop the other node's cached listing after a publish commits")
+    void shouldInvalidateOtherNodeCacheAfterPublish() throws Exception {
+        UUID listingId = createListing();
+
+        GetListingDetailsUseCase otherDetails = otherNode.getBean(GetListingDetailsUseCase.class);
+        ListingDetailsCache otherCache = otherNode.getBean(ListingDetailsCache.class);
+        long draftVersion = otherDetails.currentVersion(listingId);
+        otherDetails.execute(listingId, draftVersion);
+        assertThat(otherCache.size()).isEqualTo(1);
+
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isOk());
+
+        awaitEmpty(otherCache, 5_000);
+
+        Listing published = otherDetails.execute(listingId);
+        assertThat(published.getStatus()).isEqualTo(ListingStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("Should make a listing created on this node searchable in the other node's index")
+    void shouldReindexListingOnOtherNode() throws Exception {
+        ListingSearchEngine otherSearch = otherNode.getBean(ListingSearchEngine.class);
+        assertThat(otherSearch.findMatchingIds("tandem")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+
+        UUID listingId = createListing("Vintage tandem");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!otherSearch.findMatchingIds("tandem").orElseThrow().contains(listingId)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(otherSearch.findMatchingIds("tandem")).hasValueSatisfying(ids -> assertThat(ids).contains(listingId));
+    }
+
+    private void awaitEmpty(ListingDetailsCache cache, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (cache.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(cache.size()).as("entries left on the other node").isZero();
+    }
+
+    private UUID createListing() throws Exception {
+        return createListing("Mountain bike");
+    }
+
+    private UUID createListing(String title) throws Exception {
+        CreateListingRequest request = new CreateListingRequest(
+                title,
+                "Cluster invalidation test listing",
+                new BigDecimal("300.00"),
+                Currency.EUR,
+                Category.VEHICLES
+        );
+
+        MvcResult result = mockMvc.perform(post("/listings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ListingResponse.class).id();
+    }
+}
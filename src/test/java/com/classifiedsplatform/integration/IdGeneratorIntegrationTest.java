@@ -0,0 +1,57 @@
+package com.classifiedsplatform.integration;
+
+import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.response.ListingResponse;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "id-generator.strategy=random")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Integration Test: Id Generator Strategy")
+class IdGeneratorIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should generate ids with the strategy of this context only")
+    void shouldUseConfiguredStrategy() throws Exception {
+        CreateListingRequest request = new CreateListingRequest(
+                "Wooden chess set",
+                "Hand-carved pieces with a folding board",
+                new BigDecimal("45.00"),
+                Currency.EUR,
+                Category.OTHER
+        );
+
+        MvcResult result = mockMvc.perform(post("/listings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        UUID listingId = objectMapper.readValue(result.getResponse().getContentAsString(), ListingResponse.class).id();
+        assertThat(listingId.version()).isEqualTo(4);
+    }
+}
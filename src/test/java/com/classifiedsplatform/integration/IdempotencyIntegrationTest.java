@@ -18,6 +18,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -291,6 +293,47 @@ class IdempotencyIntegrationTest {
         assertThat(idempotencyRepository.findByIdempotencyKey(secondKey)).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should replay bulk publish results for the same idempotency key")
+    void shouldReplayBulkPublishForSameIdempotencyKey() throws Exception {
+        UUID listingId1 = createDraftListing();
+        UUID listingId2 = createDraftListing();
+        String idempotencyKey = "bulk-publish-" + UUID.randomUUID();
+        String body = objectMapper.writeValueAsString(Map.of("ids", List.of(listingId1, listingId2)));
+
+        String firstResponse = mockMvc.perform(post("/listings/publish")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.published").value(2))
+                .andReturn().getResponse().getContentAsString();
+
+        // One record for the whole batch, not tied to a single listing
+        IdempotencyRecord record = idempotencyRepository.findByIdempotencyKey(idempotencyKey).orElseThrow();
+        assertThat(record.isBatch()).isTrue();
+        assertThat(record.getHttpStatus()).isEqualTo(200);
+
+        // Retry replays the stored per-id results instead of reporting INVALID_STATE
+        String secondResponse = mockMvc.perform(post("/listings/publish")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(secondResponse).isEqualTo(firstResponse);
+
+        // Same key with another set of ids, or on the single publish endpoint, is a conflict
+        mockMvc.perform(post("/listings/publish")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("ids", List.of(listingId1)))))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/listings/{id}/publish", listingId1)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andExpect(status().isConflict());
+    }
+
     // ========== Helper Methods ==========
 
     private UUID createDraftListing() throws Exception {
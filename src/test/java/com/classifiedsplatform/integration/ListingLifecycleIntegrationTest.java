@@ -1,16 +1,24 @@
 package com.classifiedsplatform.integration;
 
+import com.classifiedsplatform.api.cache.ListingResponseCache;
 import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.response.BulkCreateListingsResponse;
 import com.classifiedsplatform.api.dto.response.ListingDetailResponse;
 import com.classifiedsplatform.api.dto.response.ListingResponse;
 import com.classifiedsplatform.api.dto.response.PhotoResponse;
 import com.classifiedsplatform.application.port.out.AuditLogRepository;
 import com.classifiedsplatform.application.port.out.FileStoragePort;
+import com.classifiedsplatform.application.port.out.ListingRepository;
 import com.classifiedsplatform.domain.model.AuditLog;
+import com.classifiedsplatform.domain.model.Listing;
 import com.classifiedsplatform.domain.model.vo.Category;
 import com.classifiedsplatform.domain.model.vo.Currency;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +28,7 @@ import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -29,11 +38,20 @@ import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -55,6 +73,18 @@ class ListingLifecycleIntegrationTest {
     @Autowired
     private FileStoragePort fileStoragePort;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ListingResponseCache responseCache;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Path testUploadDir;
 
     @BeforeEach
@@ -102,6 +132,8 @@ class ListingLifecycleIntegrationTest {
         String createResponseJson = createResult.getResponse().getContentAsString();
         ListingResponse listingResponse = objectMapper.readValue(createResponseJson, ListingResponse.class);
         UUID listingId = listingResponse.id();
+        // Default id-generator.strategy, whatever other contexts in this JVM are configured with
+        assertThat(listingId.version()).isEqualTo(7);
 
         assertThat(listingId).isNotNull();
 
@@ -369,6 +401,99 @@ class ListingLifecycleIntegrationTest {
                         org.hamcrest.Matchers.containsString("Cannot transition from PUBLISHED to PUBLISHED")));
     }
 
+    @Test
+    @DisplayName("Should publish exactly once when the same draft is published concurrently")
+    void shouldPublishOnceUnderConcurrentRequests() throws Exception {
+        UUID listingId = createNewListing();
+        int requests = 6;
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<MvcResult>> results = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/listings/{id}/publish", listingId)).andReturn();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<MvcResult> result : results) {
+                MvcResult response = result.get(10, TimeUnit.SECONDS);
+                statuses.add(response.getResponse().getStatus());
+                if (response.getResponse().getStatus() == 409) {
+                    // Lost the compare-and-set, not an optimistic-lock failure
+                    assertThat(response.getResponse().getContentAsString())
+                            .contains("Cannot transition from PUBLISHED to PUBLISHED");
+                }
+            }
+            assertThat(statuses).containsOnlyOnce(200).containsOnly(200, 409);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PUBLISHED"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(post("/listings/{id}/publish", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should bulk publish drafts in one request and report every id")
+    void shouldBulkPublishWithPerIdResults() throws Exception {
+        UUID draft1 = createNewListing();
+        UUID draft2 = createNewListing();
+        UUID alreadyPublished = createNewListing();
+        UUID unknown = UUID.randomUUID();
+
+        mockMvc.perform(post("/listings/{id}/publish", alreadyPublished))
+                .andExpect(status().isOk());
+        // Warm the details caches: the bulk publish must invalidate them like a single publish
+        mockMvc.perform(get("/listings/{id}", draft1))
+                .andExpect(jsonPath("$.status").value("DRAFT"));
+
+        String body = objectMapper.writeValueAsString(
+                Map.of("ids", List.of(draft1, alreadyPublished, unknown, draft2, draft1)));
+
+        mockMvc.perform(post("/listings/publish")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.published").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results.length()").value(4))
+                .andExpect(jsonPath("$.results[0].id").value(draft1.toString()))
+                .andExpect(jsonPath("$.results[0].outcome").value("PUBLISHED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("INVALID_STATE"))
+                .andExpect(jsonPath("$.results[1].status").value("PUBLISHED"))
+                .andExpect(jsonPath("$.results[2].outcome").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[2].status").doesNotExist())
+                .andExpect(jsonPath("$.results[3].id").value(draft2.toString()))
+                .andExpect(jsonPath("$.results[3].outcome").value("PUBLISHED"));
+
+        for (UUID id : List.of(draft1, draft2)) {
+            mockMvc.perform(get("/listings/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("PUBLISHED"))
+                    .andExpect(jsonPath("$.version").value(1));
+            assertThat(auditLogRepository.findByListingId(id))
+                    .extracting(AuditLog::getEventType)
+                    .containsExactly("LISTING_PUBLISHED");
+        }
+        // The rejected listing is untouched and not audited twice
+        assertThat(auditLogRepository.findByListingId(alreadyPublished)).hasSize(1);
+
+        mockMvc.perform(post("/listings/publish")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should handle batch upload with mixed valid and empty files")
     void shouldHandleBatchUploadWithMixedFiles() throws Exception {
@@ -396,8 +521,371 @@ class ListingLifecycleIntegrationTest {
                 .andExpect(jsonPath("$.photos.length()").value(2));
     }
 
+    @Test
+    @DisplayName("Should find listings by text query through the search index")
+    void shouldFindListingsByTextQuery() throws Exception {
+        CreateListingRequest request = new CreateListingRequest(
+                "Vintage Gibson Les Paul",
+                "Sunburst finish, original hardcase included",
+                new BigDecimal("3200.00"),
+                Currency.USD,
+                Category.OTHER
+        );
+
+        MvcResult result = mockMvc.perform(post("/listings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        UUID listingId = objectMapper.readValue(
+                result.getResponse().getContentAsString(),
+                ListingResponse.class
+        ).id();
+
+        // Prefix of a title token combined with a description token
+        mockMvc.perform(get("/listings")
+                        .param("query", "gibs HARDCASE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.id == '" + listingId + "')]").exists());
+
+        // Other filters still apply to the matched ids
+        mockMvc.perform(get("/listings")
+                        .param("query", "gibson")
+                        .param("status", "PUBLISHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.id == '" + listingId + "')]").doesNotExist());
+
+        mockMvc.perform(get("/listings")
+                        .param("query", "gibson telecaster"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.id == '" + listingId + "')]").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should walk all pages with cursor pagination, including rows with equal sort values")
+    void shouldPaginateWithCursor() throws Exception {
+        List<String> prices = List.of("10.00", "20.00", "20.00", "20.00", "30.00");
+        List<UUID> createdIds = new ArrayList<>();
+        for (String price : prices) {
+            CreateListingRequest request = new CreateListingRequest(
+                    "Cursor pet " + price,
+                    "Cursor pagination test",
+                    new BigDecimal(price),
+                    Currency.UAH,
+                    Category.PETS
+            );
+            MvcResult result = mockMvc.perform(post("/listings")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            createdIds.add(objectMapper.readValue(result.getResponse().getContentAsString(), ListingResponse.class).id());
+        }
+
+        List<UUID> seenIds = new ArrayList<>();
+        List<BigDecimal> seenPrices = new ArrayList<>();
+        String cursor = null;
+        String issuedCursor = null;
+        int pages = 0;
+        do {
+            var request = get("/listings")
+                    .param("pagination", "cursor")
+                    .param("category", "PETS")
+                    .param("sortBy", "priceAmount")
+                    .param("sortDirection", "asc")
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn();
+
+            var page = objectMapper.readTree(result.getResponse().getContentAsString());
+            for (var item : page.get("content")) {
+                seenIds.add(UUID.fromString(item.get("id").asText()));
+                seenPrices.add(item.get("price").decimalValue());
+            }
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            if (issuedCursor == null) {
+                issuedCursor = cursor;
+            }
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seenIds).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(createdIds);
+        assertThat(seenPrices).isSortedAccordingTo(Comparator.naturalOrder());
+
+        // Cursor issued for one sort cannot be replayed with another
+        mockMvc.perform(get("/listings")
+                        .param("pagination", "cursor")
+                        .param("category", "PETS")
+                        .param("sortBy", "createdAt")
+                        .param("sortDirection", "asc")
+                        .param("size", "2")
+                        .param("cursor", issuedCursor))
+                .andExpect(status().isBadRequest());
+
+        // Malformed cursors are rejected too
+        mockMvc.perform(get("/listings")
+                        .param("pagination", "cursor")
+                        .param("sortBy", "createdAt")
+                        .param("cursor", "bm90LWEtY3Vyc29y"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should skip totals when counting is disabled and serve approximate totals on request")
+    void shouldReportTotalsAccordingToMode() throws Exception {
+        createNewListing();
+        createNewListing();
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "OTHER")
+                        .param("size", "1")
+                        .param("totals", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "OTHER")
+                        .param("size", "1")
+                        .param("totals", "APPROXIMATE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(org.hamcrest.Matchers.greaterThanOrEqualTo(2)));
+    }
+
+    @Test
+    @DisplayName("Should serve listing details from cache until the listing changes")
+    void shouldCacheListingDetailsUntilChanged() throws Exception {
+        UUID listingId = createNewListing();
+
+        double hitsBefore = cacheRequests("hit");
+        double missesBefore = cacheRequests("miss");
+
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.photos.length()").value(0));
+        // Drop the serialized body so the request reaches the aggregate cache
+        responseCache.invalidate(listingId);
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.photos.length()").value(0));
+
+        assertThat(cacheRequests("miss") - missesBefore).isEqualTo(1);
+        assertThat(cacheRequests("hit") - hitsBefore).isEqualTo(1);
+
+        // Upload invalidates the entry and bumps the version
+        mockMvc.perform(multipart("/listings/{listingId}/photos", listingId)
+                        .file(new MockMultipartFile("files", "cached.jpg", "image/jpeg",
+                                createTestImageData("cached.jpg"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.photos.length()").value(1));
+
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PUBLISHED"));
+
+        assertThat(cacheRequests("miss") - missesBefore).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should answer If-None-Match with 304 until the listing version changes")
+    void shouldSupportConditionalGetOnListingDetails() throws Exception {
+        UUID listingId = createNewListing();
+
+        MvcResult first = mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        assertThat(etag).isEqualTo("\"" + listingId + "-0\"");
+
+        // Not modified: no aggregate is loaded, so the details cache is not consulted
+        double cacheRequestsBefore = cacheRequests("hit") + cacheRequests("miss");
+        MvcResult notModified = mockMvc.perform(get("/listings/{id}", listingId)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andReturn();
+        assertThat(notModified.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(cacheRequests("hit") + cacheRequests("miss")).isEqualTo(cacheRequestsBefore);
+
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/listings/{id}", listingId)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + listingId + "-1\""))
+                .andExpect(jsonPath("$.status").value("PUBLISHED"));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated listing details from the serialized response cache")
+    void shouldServeListingDetailsFromResponseCache() throws Exception {
+        UUID listingId = createNewListing();
+
+        double responseHitsBefore = responseCacheRequests("hit");
+
+        MvcResult first = mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Hit: same bytes, and the aggregate cache is not consulted at all
+        double detailsRequestsBefore = cacheRequests("hit") + cacheRequests("miss");
+        MvcResult second = mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"" + listingId + "-0\""))
+                .andExpect(jsonPath("$.id").value(listingId.toString()))
+                .andReturn();
+
+        assertThat(second.getResponse().getContentAsByteArray())
+                .isEqualTo(first.getResponse().getContentAsByteArray());
+        assertThat(responseCacheRequests("hit") - responseHitsBefore).isEqualTo(1);
+        assertThat(cacheRequests("hit") + cacheRequests("miss")).isEqualTo(detailsRequestsBefore);
+
+        // A new version is serialized again
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + listingId + "-1\""))
+                .andExpect(jsonPath("$.status").value("PUBLISHED"));
+        assertThat(responseCacheRequests("hit") - responseHitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should insert without a lookup and update a detached listing with one versioned UPDATE")
+    void shouldWriteWithoutSelectBeforeInsertOrUpdate() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        UUID listingId = createNewListing();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+
+        // Loaded in one transaction, saved in another: nothing to reuse, so no SELECT either
+        Listing listing = listingRepository.findById(listingId).orElseThrow();
+        listing.publish();
+
+        statistics.clear();
+        Listing saved = listingRepository.save(listing);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(saved.getVersion()).isEqualTo(listing.getVersion() + 1);
+
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PUBLISHED"))
+                .andExpect(jsonPath("$.version").value(saved.getVersion()));
+
+        // The same stale copy again: the version no longer matches
+        assertThatThrownBy(() -> listingRepository.save(listing))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("Should bulk create valid listings in one batched insert and report invalid items")
+    void shouldBulkCreateWithBatchedInsertsAndPerItemErrors() throws Exception {
+        String body = """
+                {"listings": [
+                  {"title": "Bulk Bike", "price": 120.00, "currency": "EUR", "category": "OTHER"},
+                  {"title": "ab", "price": 10.00, "currency": "EUR", "category": "OTHER"},
+                  {"title": "Bulk Phone", "description": "Partner feed", "price": 300.00, "currency": "USD", "category": "ELECTRONICS"},
+                  {"title": "Bulk Sofa", "price": -1, "currency": "UAH", "category": "OTHER"},
+                  null,
+                  {"title": "Bulk Desk", "price": 80.00, "currency": "UAH", "category": "OTHER"},
+                  {"title": "Bulk Yacht", "price": 1e18, "currency": "USD", "category": "OTHER"}
+                ]}
+                """;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        MvcResult result = mockMvc.perform(post("/listings/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.results.length()").value(7))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].id").doesNotExist())
+                .andExpect(jsonPath("$.results[1].error").value(org.hamcrest.Matchers.containsString("Title")))
+                .andExpect(jsonPath("$.results[3].error").value("Amount cannot be negative"))
+                .andExpect(jsonPath("$.results[4].error").value("Listing cannot be null"))
+                // Would overflow the price column and roll back the whole batch at flush
+                .andExpect(jsonPath("$.results[6].error").value("Amount cannot exceed 17 integer digits"))
+                .andReturn();
+
+        // Three rows through one batched INSERT statement
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        List<UUID> ids = objectMapper.readValue(
+                        result.getResponse().getContentAsString(), BulkCreateListingsResponse.class)
+                .results().stream()
+                .map(BulkCreateListingsResponse.Item::id)
+                .filter(Objects::nonNull)
+                .toList();
+        assertThat(ids).hasSize(3);
+        mockMvc.perform(get("/listings/{id}", ids.get(1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Bulk Phone"))
+                .andExpect(jsonPath("$.status").value("DRAFT"))
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(post("/listings/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"listings\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should write the audit entries of one upload in a single batch after commit")
+    void shouldGroupCommitAuditEntries() throws Exception {
+        UUID listingId = createNewListing();
+        double flushesBefore = meterRegistry.get("audit.log.writer.flushes").counter().count();
+
+        mockMvc.perform(multipart("/listings/{listingId}/photos", listingId)
+                        .file(new MockMultipartFile("files", "a.jpg", "image/jpeg", createTestImageData("a")))
+                        .file(new MockMultipartFile("files", "b.jpg", "image/jpeg", createTestImageData("b")))
+                        .file(new MockMultipartFile("files", "c.jpg", "image/jpeg", createTestImageData("c"))))
+                .andExpect(status().isCreated());
+
+        // sync mode: written before the response, three entries in one transaction
+        assertThat(meterRegistry.get("audit.log.writer.flushes").counter().count() - flushesBefore).isEqualTo(1);
+        assertThat(auditLogRepository.findByListingId(listingId))
+                .extracting(AuditLog::getEventType)
+                .containsOnly("PHOTO_UPLOADED")
+                .hasSize(3);
+    }
+
     // ========== Helper Methods ==========
 
+    private double cacheRequests(String result) {
+        return meterRegistry.get("listing.details.cache.requests").tag("result", result).counter().count();
+    }
+
+    private double responseCacheRequests(String result) {
+        return meterRegistry.get("listing.response.cache.requests").tag("result", result).counter().count();
+    }
+
     private UUID createNewListing() throws Exception {
         CreateListingRequest request = new CreateListingRequest(
                 "Test Listing",
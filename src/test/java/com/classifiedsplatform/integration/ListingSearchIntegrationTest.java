@@ -0,0 +1,337 @@
+package com.classifiedsplatform.integration;
+
+import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.response.ListingResponse;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Integration Test: Listing Search")
+class ListingSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Path testUploadDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testUploadDir = Paths.get("./test-uploads/listing-images");
+        Files.createDirectories(testUploadDir);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (Files.exists(testUploadDir)) {
+            Files.walk(testUploadDir)
+                    .sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("Should load photo counts for a search page with a constant number of statements")
+    void shouldNotIssueQueryPerListingInSearchResults() throws Exception {
+        Map<UUID, Integer> expectedPhotoCounts = new HashMap<>();
+        for (int i = 0; i < 6; i++) {
+            UUID listingId = createListing("Tennis racket " + i, Category.SPORTS);
+            int photoCount = i % 3;
+            uploadPhotos(listingId, photoCount);
+            expectedPhotoCounts.put(listingId, photoCount);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Page query + count query + one grouped photo count query, regardless of page size
+        statistics.clear();
+        JsonNode smallPage = search(2);
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        JsonNode fullPage = search(6);
+        long fullPageStatements = statistics.getPrepareStatementCount();
+
+        assertThat(smallPage.get("content")).hasSize(2);
+        assertThat(fullPage.get("content")).hasSize(6);
+        assertThat(fullPageStatements).isEqualTo(smallPageStatements).isLessThanOrEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+        for (JsonNode item : fullPage.get("content")) {
+            UUID id = UUID.fromString(item.get("id").asText());
+            assertThat(item.get("photoCount").asInt()).isEqualTo(expectedPhotoCounts.get(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return facet counts for the current filters")
+    void shouldReturnFacetCounts() throws Exception {
+        createListing("Garden chair", Category.HOME_GARDEN, "50.00", Currency.UAH);
+        createListing("Garden table", Category.HOME_GARDEN, "450.00", Currency.UAH);
+        UUID lawnMower = createListing("Lawn mower", Category.HOME_GARDEN, "7500.00", Currency.EUR);
+        mockMvc.perform(post("/listings/{id}/publish", lawnMower)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "HOME_GARDEN")
+                        .param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.facets.category.HOME_GARDEN").value(3))
+                .andExpect(jsonPath("$.facets.status.DRAFT").value(2))
+                .andExpect(jsonPath("$.facets.status.PUBLISHED").value(1))
+                .andExpect(jsonPath("$.facets.currency.UAH").value(2))
+                .andExpect(jsonPath("$.facets.currency.EUR").value(1))
+                .andExpect(jsonPath("$.facets.price.UNDER_100").value(1))
+                .andExpect(jsonPath("$.facets.price.FROM_100_TO_500").value(1))
+                .andExpect(jsonPath("$.facets.price.FROM_5000").value(1))
+                .andExpect(jsonPath("$.facets.price.FROM_500_TO_1000").doesNotExist());
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "HOME_GARDEN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should filter by category, status and currency and follow status changes")
+    void shouldFilterByAttributes() throws Exception {
+        UUID usdDraft = createListing("Denim jacket", Category.FASHION, "80.00", Currency.USD);
+        UUID usdPublished = createListing("Leather boots", Category.FASHION, "120.00", Currency.USD);
+        createListing("Wool scarf", Category.FASHION, "20.00", Currency.UAH);
+        mockMvc.perform(post("/listings/{id}/publish", usdPublished)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "FASHION")
+                        .param("status", "PUBLISHED")
+                        .param("currency", "USD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(usdPublished.toString()));
+
+        // Publishing moves the listing between status bitmaps
+        mockMvc.perform(post("/listings/{id}/publish", usdDraft)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "FASHION")
+                        .param("status", "PUBLISHED")
+                        .param("currency", "USD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "FASHION")
+                        .param("status", "DRAFT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].currency").value("UAH"));
+
+        mockMvc.perform(get("/listings")
+                        .param("query", "boots")
+                        .param("category", "FASHION")
+                        .param("currency", "USD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(usdPublished.toString()));
+    }
+
+    @Test
+    @DisplayName("Should filter by price range with inclusive bounds per currency")
+    void shouldFilterByPriceRange() throws Exception {
+        createListing("Window cleaning", Category.SERVICES, "10.00", Currency.UAH);
+        createListing("Lawn mowing", Category.SERVICES, "10.50", Currency.UAH);
+        createListing("Dog walking", Category.SERVICES, "11.00", Currency.UAH);
+        createListing("Tutoring", Category.SERVICES, "10.50", Currency.EUR);
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "SERVICES")
+                        .param("minPrice", "10.50")
+                        .param("maxPrice", "11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3));
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "SERVICES")
+                        .param("currency", "UAH")
+                        .param("minPrice", "10.50")
+                        .param("maxPrice", "11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        // Fractional cents round inwards, so 10.501 excludes 10.50
+        mockMvc.perform(get("/listings")
+                        .param("category", "SERVICES")
+                        .param("minPrice", "10.501"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Dog walking"));
+    }
+
+    @Test
+    @DisplayName("Should return a batch of listing details in request order with two queries")
+    void shouldGetListingsByIdBatch() throws Exception {
+        UUID flat = createListing("Studio flat", Category.REAL_ESTATE);
+        UUID house = createListing("Country house", Category.REAL_ESTATE);
+        UUID garage = createListing("Garage", Category.REAL_ESTATE);
+        uploadPhotos(flat, 2);
+        uploadPhotos(garage, 1);
+        UUID unknown = UUID.randomUUID();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/listings/batch")
+                        .param("ids", garage.toString(), unknown.toString(), flat.toString(), house.toString(),
+                                garage.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.listings.length()").value(3))
+                .andExpect(jsonPath("$.listings[0].id").value(garage.toString()))
+                .andExpect(jsonPath("$.listings[0].photos.length()").value(1))
+                .andExpect(jsonPath("$.listings[1].id").value(flat.toString()))
+                .andExpect(jsonPath("$.listings[1].photos.length()").value(2))
+                .andExpect(jsonPath("$.listings[2].id").value(house.toString()))
+                .andExpect(jsonPath("$.listings[2].photos.length()").value(0))
+                .andExpect(jsonPath("$.missingIds.length()").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(unknown.toString()));
+
+        // Listings IN query + photos IN query, no per-listing collection loads
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or oversized id batch")
+    void shouldRejectInvalidIdBatch() throws Exception {
+        String[] tooMany = new String[51];
+        for (int i = 0; i < tooMany.length; i++) {
+            tooMany[i] = UUID.randomUUID().toString();
+        }
+
+        mockMvc.perform(get("/listings/batch").param("ids", tooMany))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/listings/batch").param("ids", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode search(int size) throws Exception {
+        MvcResult result = mockMvc.perform(get("/listings")
+                        .param("category", "SPORTS")
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should index and range-query prices beyond the long range of cents")
+    void shouldSearchPricesBeyondLongCents() throws Exception {
+        UUID largest = createListing("Office tower", Category.REAL_ESTATE, "99999999999999999.99", Currency.USD);
+        UUID large = createListing("Shopping mall", Category.REAL_ESTATE, "95000000000000000.00", Currency.USD);
+        UUID small = createListing("Parking spot", Category.REAL_ESTATE, "10.00", Currency.USD);
+
+        // Both large prices saturate to the same cents in the index; the exact bound is applied by the database
+        mockMvc.perform(get("/listings")
+                        .param("category", "REAL_ESTATE")
+                        .param("currency", "USD")
+                        .param("minPrice", "99999999999999999.00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(largest.toString()));
+
+        MvcResult result = mockMvc.perform(get("/listings")
+                        .param("category", "REAL_ESTATE")
+                        .param("currency", "USD")
+                        .param("maxPrice", "1e20"))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode all = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(all.get("content").findValuesAsText("id"))
+                .contains(largest.toString(), large.toString(), small.toString());
+
+        mockMvc.perform(get("/listings")
+                        .param("category", "REAL_ESTATE")
+                        .param("minPrice", "1e20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    private UUID createListing(String title, Category category) throws Exception {
+        return createListing(title, category, "75.00", Currency.EUR);
+    }
+
+    private UUID createListing(String title, Category category, String price, Currency currency) throws Exception {
+        CreateListingRequest request = new CreateListingRequest(
+                title,
+                "Search test listing",
+                new BigDecimal(price),
+                currency,
+                category
+        );
+
+        MvcResult result = mockMvc.perform(post("/listings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ListingResponse.class).id();
+    }
+
+    private void uploadPhotos(UUID listingId, int count) throws Exception {
+        if (count == 0) {
+            return;
+        }
+
+        var builder = multipart("/listings/{listingId}/photos", listingId);
+        for (int i = 0; i < count; i++) {
+            byte[] data = new byte[512];
+            data[0] = (byte) 0xFF;
+            data[1] = (byte) 0xD8;
+            data[data.length - 2] = (byte) 0xFF;
+            data[data.length - 1] = (byte) 0xD9;
+            builder.file(new MockMultipartFile("files", "photo-" + i + ".jpg", "image/jpeg", data));
+        }
+
+        mockMvc.perform(builder).andExpect(status().isCreated());
+    }
+}
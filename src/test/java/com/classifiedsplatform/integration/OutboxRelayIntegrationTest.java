@@ -0,0 +1,167 @@
+package com.classifiedsplatform.integration;
+
+import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.response.ListingResponse;
+import com.classifiedsplatform.application.port.out.OutboxEvent;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "outbox.relay.enabled=true",
+        "outbox.sink.file.enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Integration Test: Transactional Outbox")
+class OutboxRelayIntegrationTest {
+
+    private static final Path OUTBOX_FILE = Paths.get(
+            System.getProperty("java.io.tmpdir"), "outbox-" + UUID.randomUUID(), "events.ndjson");
+
+    @DynamicPropertySource
+    static void outboxProperties(DynamicPropertyRegistry registry) {
+        registry.add("outbox.sink.file.path", OUTBOX_FILE::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RelayedEvents relayedEvents;
+
+    @Test
+    @DisplayName("Should relay committed events in per-listing order to every sink")
+    void shouldRelayCommittedEventsInOrder() throws Exception {
+        UUID listingId = createListing();
+
+        mockMvc.perform(multipart("/listings/{listingId}/photos", listingId)
+                        .file(photo("front.jpg"))
+                        .file(photo("back.jpg")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isOk());
+
+        // Rejected transition: rolls back, so it must not leave an event behind
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isConflict());
+
+        List<String> expected = List.of("PHOTO_UPLOADED", "PHOTO_UPLOADED", "LISTING_PUBLISHED");
+        awaitEvents(listingId, expected.size(), 5_000);
+
+        assertThat(relayedEvents.typesFor(listingId)).containsExactlyElementsOf(expected);
+        assertThat(fileEventTypesFor(listingId)).containsExactlyElementsOf(expected);
+
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Integer.class, listingId);
+        assertThat(pending).isZero();
+    }
+
+    private void awaitEvents(UUID listingId, int count, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (relayedEvents.typesFor(listingId).size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        // Give a late duplicate the chance to show up before asserting
+        Thread.sleep(200);
+    }
+
+    private List<String> fileEventTypesFor(UUID listingId) throws Exception {
+        List<String> types = new ArrayList<>();
+        for (String line : Files.readAllLines(OUTBOX_FILE)) {
+            JsonNode event = objectMapper.readTree(line);
+            if (event.get("aggregateId").asText().equals(listingId.toString())) {
+                assertThat(event.get("payload").get("listingId").asText()).isEqualTo(listingId.toString());
+                types.add(event.get("eventType").asText());
+            }
+        }
+        return types;
+    }
+
+    private UUID createListing() throws Exception {
+        CreateListingRequest request = new CreateListingRequest(
+                "Outbox test listing",
+                "Listing used to verify that domain events are relayed from the outbox",
+                new BigDecimal("75.00"),
+                Currency.USD,
+                Category.ELECTRONICS
+        );
+
+        MvcResult result = mockMvc.perform(post("/listings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ListingResponse.class).id();
+    }
+
+    private MockMultipartFile photo(String filename) {
+        byte[] data = new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10};
+        return new MockMultipartFile("files", filename, "image/jpeg", data);
+    }
+
+    static class RelayedEvents {
+
+        private final Queue<OutboxEvent> events = new ConcurrentLinkedQueue<>();
+
+        @EventListener
+        void onOutboxEvent(OutboxEvent event) {
+            events.add(event);
+        }
+
+        List<String> typesFor(UUID listingId) {
+            return events.stream()
+                    .filter(event -> event.aggregateId().equals(listingId))
+                    .map(OutboxEvent::eventType)
+                    .toList();
+        }
+    }
+
+    @TestConfiguration
+    static class RelayedEventsConfig {
+
+        @Bean
+        RelayedEvents relayedEvents() {
+            return new RelayedEvents();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.classifiedsplatform.integration;
+
+import com.classifiedsplatform.api.dto.request.CreateListingRequest;
+import com.classifiedsplatform.api.dto.response.ListingResponse;
+import com.classifiedsplatform.domain.model.vo.Category;
+import com.classifiedsplatform.domain.model.vo.Currency;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Generous budgets: a cold first query must not turn a key slow in this test
+@SpringBootTest(properties = {
+        "stale-while-revalidate.listing-details.enabled=true",
+        "stale-while-revalidate.listing-details.latency-budget-ms=10000",
+        "stale-while-revalidate.listings.enabled=true",
+        "stale-while-revalidate.listings.latency-budget-ms=10000",
+        "stale-while-revalidate.listings-cursor.enabled=true",
+        "stale-while-revalidate.listings-cursor.latency-budget-ms=10000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Integration Test: Stale-while-revalidate Listing Reads")
+class StaleWhileRevalidateIntegrationTest {
+
+    private static final List<String> NAMES = List.of("listing-details", "listings", "listings-cursor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should serve fresh reads on the request thread while the database keeps within the budget")
+    void shouldServeFreshReadsWhenHealthy() throws Exception {
+        UUID listingId = createListing("Quokka plush toy");
+        double[] freshBefore = NAMES.stream().mapToDouble(name -> calls(name, "fresh")).toArray();
+
+        readAll(listingId, "DRAFT");
+
+        mockMvc.perform(post("/listings/{id}/publish", listingId))
+                .andExpect(status().isOk());
+
+        // A healthy key is reloaded on every read, so the change shows up immediately
+        readAll(listingId, "PUBLISHED");
+
+        for (int i = 0; i < NAMES.size(); i++) {
+            assertThat(calls(NAMES.get(i), "fresh")).as(NAMES.get(i)).isEqualTo(freshBefore[i] + 2);
+            assertThat(calls(NAMES.get(i), "stale")).as(NAMES.get(i)).isZero();
+        }
+        // Nothing was handed to the background pool
+        assertThat(Thread.getAllStackTraces().keySet())
+                .noneMatch(thread -> thread.getName().startsWith("revalidate-"));
+    }
+
+    private void readAll(UUID listingId, String expectedStatus) throws Exception {
+        mockMvc.perform(get("/listings/{id}", listingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(expectedStatus));
+
+        mockMvc.perform(get("/listings")
+                        .param("query", "quokka"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(listingId.toString()))
+                .andExpect(jsonPath("$.content[0].status").value(expectedStatus));
+
+        mockMvc.perform(get("/listings")
+                        .param("pagination", "cursor")
+                        .param("query", "quokka"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(listingId.toString()))
+                .andExpect(jsonPath("$.content[0].status").value(expectedStatus));
+    }
+
+    private double calls(String name, String result) {
+        return meterRegistry.get("stale.while.revalidate.calls").tag("name", name).tag("result", result)
+                .counter().count();
+    }
+
+    private UUID createListing(String title) throws Exception {
+        CreateListingRequest request = new CreateListingRequest(
+                title,
+                "Stale-while-revalidate test listing",
+                new BigDecimal("25.00"),
+                Currency.EUR,
+                Category.OTHER
+        );
+
+        MvcResult result = mockMvc.perform(post("/listings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ListingResponse.class).id();
+    }
+}